@@ -0,0 +1,66 @@
+package date.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the bulk Date.daysBetween api, over columns of epoch days.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkDaysBetweenBenchmark {
+
+	@Param({"1024", "1048576"})
+	public int size;
+
+	private int[] starts;
+	private int[] ends;
+	private int[] out;
+
+
+	@Setup
+	public void setUp() {
+
+		final Random random = new Random(1900);
+		final int firstDay = new Date("01 01 1900").getEpochDay();
+		starts = new int[size];
+		ends = new int[size];
+		out = new int[size];
+		for (int i = 0; i < size; i++) {
+			starts[i] = firstDay + random.nextInt(40000);
+			ends[i] = firstDay + random.nextInt(40000);
+		}
+	}
+
+
+	@Benchmark
+	public int[] pairs() {
+
+		Date.daysBetween(starts, ends, out);
+		return out;
+	}
+
+
+	@Benchmark
+	public int[] anchor() {
+
+		Date.daysBetween(starts[0], ends, out);
+		return out;
+	}
+}
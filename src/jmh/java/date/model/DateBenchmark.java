@@ -0,0 +1,106 @@
+package date.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Date hot paths, construction from a string, daysBetween and compareTo.
+ * <p>
+ * The valid and invalid inputs are held in separate states, so each benchmark only runs for the params it reads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+
+	@State(Scope.Thread)
+	public static class ValidDate {
+
+		/**
+		 * Valid dates, near each end of the default range
+		 */
+		@Param({"01 01 1900", "31 12 2010"})
+		public String validDate;
+
+		private Date start;
+		private Date end;
+
+
+		@Setup
+		public void setUp() {
+
+			start = new Date("28 12 1971");
+			end = new Date(validDate);
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class InvalidDate {
+
+		/**
+		 * Invalid dates, one for each of the format, year, month and day checks
+		 */
+		@Param({"Hello World", "01 01 2011", "01 13 2000", "29 02 2001"})
+		public String invalidDate;
+	}
+
+
+	@Benchmark
+	public Date constructValid(final ValidDate state) {
+
+		return new Date(state.validDate);
+	}
+
+
+	@Benchmark
+	public Object constructInvalid(final InvalidDate state) {
+
+		try {
+			return new Date(state.invalidDate);
+		} catch (IllegalArgumentException iae) {
+			return iae;
+		}
+	}
+
+
+	@Benchmark
+	public int tryParseValid(final ValidDate state) {
+
+		return DateParser.tryParsePacked(state.validDate, 0, state.validDate.length());
+	}
+
+
+	@Benchmark
+	public int tryParseInvalid(final InvalidDate state) {
+
+		return DateParser.tryParsePacked(state.invalidDate, 0, state.invalidDate.length());
+	}
+
+
+	@Benchmark
+	public long daysBetween(final ValidDate state) {
+
+		return state.start.compareTo(state.end) <= 0 ? state.start.daysBetween(state.end) : state.end.daysBetween(state.start);
+	}
+
+
+	@Benchmark
+	public int compareTo(final ValidDate state) {
+
+		return state.start.compareTo(state.end);
+	}
+}
@@ -0,0 +1,37 @@
+package date.model;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmarks jar.
+ * <p>
+ * With no arguments, runs every date.model benchmark with the GC profiler, so that both
+ * the ops/s and the bytes allocated per op (gc.alloc.rate.norm) are reported.
+ * Otherwise the arguments are passed straight to JMH, e.g. "DateBenchmark -prof gc"
+ */
+public final class DateBenchmarks {
+
+	private DateBenchmarks() {
+	}
+
+
+	public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+
+		final Options options;
+		if (args.length > 0) {
+			options = new CommandLineOptions(args);
+		} else {
+			options = new OptionsBuilder()
+					.include("date\\.model\\..*Benchmark\\..*")
+					.addProfiler(GCProfiler.class)
+					.build();
+		}
+		new Runner(options).run();
+	}
+}
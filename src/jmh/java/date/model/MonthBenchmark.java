@@ -0,0 +1,75 @@
+package date.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Month lookups, and cumulative offsets.
+ * <p>
+ * Each input set is held in its own state, so each benchmark only runs for the params it reads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthBenchmark {
+
+	@State(Scope.Thread)
+	public static class ValidMonth {
+
+		@Param({"01", "12"})
+		public String validMonth;
+	}
+
+
+	@State(Scope.Thread)
+	public static class InvalidMonth {
+
+		@Param({"13", "blah"})
+		public String invalidMonth;
+	}
+
+
+	@State(Scope.Thread)
+	public static class MonthValue {
+
+		@Param({"JANUARY", "DECEMBER"})
+		public Month month;
+	}
+
+
+	@Benchmark
+	public Month fromIndexStringValid(final ValidMonth state) {
+
+		return Month.fromIndexString(state.validMonth);
+	}
+
+
+	@Benchmark
+	public Object fromIndexStringInvalid(final InvalidMonth state) {
+
+		try {
+			return Month.fromIndexString(state.invalidMonth);
+		} catch (IllegalArgumentException iae) {
+			return iae;
+		}
+	}
+
+
+	@Benchmark
+	public long getTotalSecondsBefore(final MonthValue state) {
+
+		return state.month.getTotalSecondsBefore(false);
+	}
+}
@@ -0,0 +1,56 @@
+package date.app;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read only CharSequence view over a ByteBuffer of single byte (ascii) chars.
+ * <p>
+ * Allows the DateParser to read dates straight out of a memory mapped file, without
+ * decoding the bytes into Strings first.
+ * nb: indexes are absolute positions in the buffer, i.e. byte offsets.
+ * Any byte over 127 is a single, (non date), char here, only subSequence decodes the bytes, as UTF-8.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+	private final ByteBuffer buffer;
+
+
+	AsciiCharSequence(final ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+
+	@Override
+	public int length() {
+		return buffer.limit();
+	}
+
+
+	@Override
+	public char charAt(final int index) {
+		return (char) (buffer.get(index) & 0xFF);
+	}
+
+
+	/**
+	 * Only used to build error messages, so a copy of the bytes is fine here.
+	 * The bytes are decoded as UTF-8, so the quoted text is the same as when the file is read by DatePairProcessor.
+	 * nb: The length of the result can be less than end - start.
+	 */
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+
+		final byte[] bytes = new byte[end - start];
+		for (int i = start; i < end; i++) {
+			bytes[i - start] = buffer.get(i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+
+	@Override
+	public String toString() {
+		return subSequence(0, length()).toString();
+	}
+}
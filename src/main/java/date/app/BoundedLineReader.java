@@ -0,0 +1,124 @@
+package date.app;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads the same lines as BufferedReader.readLine, (ended by \n, \r, or \r\n), but gives up on a line once it is
+ * longer than maxLineLength, so a client that never sends a line separator can't fill the heap.
+ * <p>
+ * Package local, used by DateDiffServer, one per connection, not thread safe.
+ */
+final class BoundedLineReader {
+
+	/**
+	 * Returned by readLine at the end of the stream
+	 */
+	static final int END_OF_STREAM = -1;
+
+	/**
+	 * Returned by readLine when the line is longer than maxLineLength, the rest of the line is not read
+	 */
+	static final int LINE_TOO_LONG = -2;
+
+	private final BufferedReader reader;
+	private final int maxLineLength;
+	private final StringBuilder line = new StringBuilder(64);
+
+	/**
+	 * True after a \r, so that a \n straight after it doesn't start another line
+	 */
+	private boolean skipLineFeed;
+
+
+	BoundedLineReader(final BufferedReader reader, final int maxLineLength) {
+
+		this.reader = reader;
+		this.maxLineLength = maxLineLength;
+	}
+
+
+	/**
+	 * Reads the next line, see getLine
+	 *
+	 * @return the length of the line, END_OF_STREAM, or LINE_TOO_LONG
+	 */
+	int readLine() throws IOException {
+
+		line.setLength(0);
+		int c = reader.read();
+		if (skipLineFeed) {
+			skipLineFeed = false;
+			if (c == '\n') {
+				c = reader.read();
+			}
+		}
+		if (c < 0) {
+			return END_OF_STREAM;
+		}
+
+		while (c >= 0) {
+			if (c == '\n') {
+				break;
+			}
+			if (c == '\r') {
+				skipLineFeed = true;
+				break;
+			}
+			if (line.length() == maxLineLength) {
+				return LINE_TOO_LONG;
+			}
+			line.append((char) c);
+			c = reader.read();
+		}
+		return line.length();
+	}
+
+
+	/**
+	 * @return the line last read by readLine
+	 */
+	String getLine() {
+
+		return line.toString();
+	}
+
+
+	/**
+	 * Reads chars that follow a line, e.g. an HTTP body, see Reader.read
+	 */
+	int read(final char[] chars, final int offset, final int length) throws IOException {
+
+		if (length == 0) {
+			return 0;
+		}
+		if (skipLineFeed) {
+			skipLineFeed = false;
+			final int c = reader.read();
+			if (c < 0) {
+				return END_OF_STREAM;
+			}
+			if (c != '\n') {
+				chars[offset] = (char) c;
+				return 1;
+			}
+		}
+		return reader.read(chars, offset, length);
+	}
+
+
+	/**
+	 * @return true, if more chars can be read without blocking, (ignoring a \n that only ends the last line)
+	 */
+	boolean ready() throws IOException {
+
+		if (skipLineFeed && reader.ready()) {
+			reader.mark(1);
+			if (reader.read() != '\n') {
+				reader.reset();
+			}
+			skipLineFeed = false;
+		}
+		return reader.ready();
+	}
+}
@@ -0,0 +1,103 @@
+package date.app;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line entry point, calculates the difference between pairs of dates.
+ * <p>
+ * Usage:
+ * <pre>
+ *     java -cp target/classes date.app.DateDiffApp [file]
+ *     java -cp target/classes date.app.DateDiffApp --mapped file
+ *     java -cp target/classes date.app.DateDiffApp --serve port
+ * </pre>
+ * Reads date pairs, in the format "DD MM YYYY, DD MM YYYY", from the given file, or from standard input
+ * if no file is given. Results are written to standard output, invalid lines to standard error.
+ * <p>
+ * The --mapped option memory maps the file, and processes it on every available core, (see MappedDatePairProcessor)
+ * <p>
+ * The --serve option answers date pairs sent to the given port, on localhost, until the process is stopped, (see DateDiffServer)
+ * <p>
+ * Exits with a status of 1 if any line was invalid.
+ */
+public final class DateDiffApp {
+
+	private static final int INVALID_INPUT_EXIT_STATUS = 1;
+	private static final int USAGE_EXIT_STATUS = 2;
+	private static final String MAPPED_OPTION = "--mapped";
+	private static final String SERVE_OPTION = "--serve";
+
+
+	private DateDiffApp() {
+	}
+
+
+	public static void main(final String[] args) throws IOException, InterruptedException {
+
+		if (args.length > 0 && SERVE_OPTION.equals(args[0])) {
+			if (args.length != 2) {
+				System.err.println("Usage: DateDiffApp --serve port");
+				System.exit(USAGE_EXIT_STATUS);
+			}
+			serve(Integer.parseInt(args[1]));
+			return;
+		}
+
+		final long invalidLines;
+		if (args.length > 0 && MAPPED_OPTION.equals(args[0])) {
+			if (args.length != 2) {
+				System.err.println("Usage: DateDiffApp --mapped file");
+				System.exit(USAGE_EXIT_STATUS);
+			}
+			invalidLines = runMapped(Paths.get(args[1]));
+		} else {
+			try (InputStream in = args.length > 0 ? new FileInputStream(args[0]) : System.in) {
+				invalidLines = run(in);
+			}
+		}
+
+		if (invalidLines > 0) {
+			System.exit(INVALID_INPUT_EXIT_STATUS);
+		}
+	}
+
+
+	private static long run(final InputStream in) throws IOException {
+
+		final Reader input = new InputStreamReader(in, StandardCharsets.UTF_8);
+		final Writer output = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+		final Writer errors = new OutputStreamWriter(System.err, StandardCharsets.UTF_8);
+		return DatePairProcessor.process(input, output, errors);
+	}
+
+
+	private static void serve(final int port) throws IOException, InterruptedException {
+
+		final DateDiffServer server = DateDiffServer.start(port);
+		System.err.println("Listening on localhost:" + server.getPort());
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				server.close();
+			} catch (IOException e) {
+				//Exiting anyway
+			}
+		}));
+		Thread.currentThread().join();
+	}
+
+
+	private static long runMapped(final Path file) throws IOException {
+
+		final Writer errors = new OutputStreamWriter(System.err, StandardCharsets.UTF_8);
+		return MappedDatePairProcessor.process(file, System.out, errors);
+	}
+}
@@ -0,0 +1,155 @@
+package date.app;
+
+import date.model.Date;
+import date.model.DateError;
+import date.model.DateParseResult;
+import date.model.DateParser;
+
+import java.util.Map;
+
+/**
+ * Result of a single date pair, published by DatePairFlowProcessor.
+ * <p>
+ * Either the ordered dates and the count of days between them, or, for a pair that could not be parsed,
+ * the error, (and its message), so that one bad pair doesn't end the stream.
+ * <p>
+ * toString is the same as a line returned by DateDiffServer, e.g. "25 12 2000, 26 12 2000, 1", or "ERROR: reason"
+ */
+public final class DateDiffResult {
+
+	private static final String NOT_A_DATE_PAIR_ERROR = "[%s] is not a pair of dates, neither date can be null";
+
+	private final Date start;
+	private final Date end;
+	private final long days;
+	private final DateError error;
+	private final String errorMessage;
+
+
+	private DateDiffResult(final Date start, final Date end, final long days, final DateError error, final String errorMessage) {
+
+		this.start = start;
+		this.end = end;
+		this.days = days;
+		this.error = error;
+		this.errorMessage = errorMessage;
+	}
+
+
+	/**
+	 * @return the difference between the dates, earliest date first
+	 */
+	static DateDiffResult between(final Date first, final Date second) {
+
+		final Date earliest = first.compareTo(second) > 0 ? second : first;
+		final Date latest = earliest == first ? second : first;
+		return new DateDiffResult(earliest, latest, earliest.daysBetween(latest), null, null);
+	}
+
+
+	/**
+	 * @param line date pair, in the format "DD MM YYYY, DD MM YYYY"
+	 * @return the difference between the dates, or the reason the line was rejected
+	 */
+	static DateDiffResult fromLine(final CharSequence line) {
+
+		final int end = line.length();
+		final int separator = DatePairLine.findSeparator(line, 0, end);
+		if (separator < 0) {
+			return error(DateError.INVALID_FORMAT, String.format(DatePairLine.INVALID_DATE_PAIR_ERROR, line));
+		}
+
+		final DateParseResult first = DateParser.tryParse(line, 0, separator);
+		if (!first.isValid()) {
+			return error(first.getError(), first.getMessage());
+		}
+		final DateParseResult second = DateParser.tryParse(line, DatePairLine.secondDateStart(line, separator, end), end);
+		if (!second.isValid()) {
+			return error(second.getError(), second.getMessage());
+		}
+		return between(first.getDate(), second.getDate());
+	}
+
+
+	/**
+	 * @param pair start and end date, in either order
+	 * @return the difference between the dates, or an INVALID_FORMAT error if either date is null
+	 */
+	static DateDiffResult fromPair(final Map.Entry<Date, Date> pair) {
+
+		if (pair.getKey() == null || pair.getValue() == null) {
+			return error(DateError.INVALID_FORMAT, String.format(NOT_A_DATE_PAIR_ERROR, pair));
+		}
+		return between(pair.getKey(), pair.getValue());
+	}
+
+
+	private static DateDiffResult error(final DateError error, final String errorMessage) {
+
+		return new DateDiffResult(null, null, 0, error, errorMessage);
+	}
+
+
+	public boolean isValid() {
+
+		return error == null;
+	}
+
+
+	/**
+	 * @return the earliest date, null if the pair was rejected
+	 */
+	public Date getStart() {
+
+		return start;
+	}
+
+
+	/**
+	 * @return the latest date, null if the pair was rejected
+	 */
+	public Date getEnd() {
+
+		return end;
+	}
+
+
+	/**
+	 * @return count of days between the dates, 0 if the pair was rejected
+	 */
+	public long getDays() {
+
+		return days;
+	}
+
+
+	/**
+	 * @return the reason the pair was rejected, or null if it was valid
+	 */
+	public DateError getError() {
+
+		return error;
+	}
+
+
+	/**
+	 * @return the message for the rejected pair, the same as the exception thrown by new Date(text), or null if it was valid
+	 */
+	public String getErrorMessage() {
+
+		return errorMessage;
+	}
+
+
+	@Override
+	public String toString() {
+
+		if (!isValid()) {
+			return DateDiffServer.ERROR_PREFIX + errorMessage;
+		}
+		final StringBuilder sb = new StringBuilder(32);
+		start.appendTo(sb).append(", ");
+		end.appendTo(sb).append(", ");
+		return sb.append(days).toString();
+	}
+}
@@ -0,0 +1,424 @@
+package date.app;
+
+import date.annotations.VisibleForTesting;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small, local, date difference server, so that several processes can share one (warmed up) copy of the library.
+ * <p>
+ * Each connection speaks one of 2 protocols, picked from its first line:
+ * <ul>
+ * <li>Line protocol: the client sends lines in the format "DD MM YYYY, DD MM YYYY", and receives a line for each,
+ * in the same order, either "DD MM YYYY, DD MM YYYY, difference" (see DatePairProcessor) or "ERROR: reason".
+ * Requests can be pipelined, responses are buffered, and only flushed once every request already received has been
+ * answered, so a batch of requests is answered with a single write.</li>
+ * <li>HTTP/1.1: POST /diff, with a body of date pair lines, is answered with a text/plain body of result lines.
+ * Connections are kept alive, unless the client asks for them to be closed.</li>
+ * </ul>
+ * Blank lines are ignored, by both protocols. Lines, (and HTTP request and header lines), longer than MAX_LINE_LENGTH
+ * are answered with an error, and the connection is closed.
+ * <p>
+ * Each connection is handled on its own virtual thread, when the JVM supports them, (Java 21+), otherwise on a
+ * thread from a cached pool.
+ * <p>
+ * e.g.
+ * try (DateDiffServer server = DateDiffServer.start(0)) {
+ * ... connect to localhost:server.getPort()
+ * }
+ */
+public final class DateDiffServer implements Closeable {
+
+	@VisibleForTesting
+	static final String ERROR_PREFIX = "ERROR: ";
+
+	@VisibleForTesting
+	static final String HTTP_PATH = "/diff";
+
+	private static final String HTTP_VERSION_PREFIX = "HTTP/1.";
+	private static final String HTTP_LINE_SEPARATOR = "\r\n";
+	private static final String CONTENT_LENGTH_HEADER = "content-length:";
+	private static final String CONNECTION_HEADER = "connection:";
+
+	/**
+	 * Largest HTTP body accepted, in bytes, (~0.5 million date pairs)
+	 */
+	@VisibleForTesting
+	static final int MAX_BODY_LENGTH = 1 << 24;
+
+	/**
+	 * Longest line accepted, in chars, by either protocol
+	 */
+	@VisibleForTesting
+	static final int MAX_LINE_LENGTH = 8192;
+
+	@VisibleForTesting
+	static final String LINE_TOO_LONG_ERROR = "Lines must be at most " + MAX_LINE_LENGTH + " characters";
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService connectionExecutor;
+	private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+	private final Thread acceptor;
+	private volatile boolean closed;
+
+
+	private DateDiffServer(final ServerSocket serverSocket) {
+
+		this.serverSocket = serverSocket;
+		this.connectionExecutor = newConnectionExecutor();
+		this.acceptor = new Thread(this::acceptConnections, "date-diff-server-" + serverSocket.getLocalPort());
+		acceptor.setDaemon(true);
+	}
+
+
+	/**
+	 * Starts a server on the loopback address
+	 *
+	 * @param port port to listen on, 0 for any free port, see getPort
+	 * @return the running server
+	 * @throws IOException if the port can't be bound
+	 */
+	public static DateDiffServer start(final int port) throws IOException {
+
+		return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+	}
+
+
+	/**
+	 * @param address address to listen on
+	 * @return the running server
+	 * @throws IOException if the address can't be bound
+	 */
+	public static DateDiffServer start(final InetSocketAddress address) throws IOException {
+
+		final ServerSocket serverSocket = new ServerSocket();
+		try {
+			serverSocket.bind(address);
+		} catch (IOException e) {
+			serverSocket.close();
+			throw e;
+		}
+		final DateDiffServer server = new DateDiffServer(serverSocket);
+		server.acceptor.start();
+		return server;
+	}
+
+
+	/**
+	 * @return the port the server is listening on
+	 */
+	public int getPort() {
+
+		return serverSocket.getLocalPort();
+	}
+
+
+	/**
+	 * Stops accepting connections, and closes any open connections
+	 */
+	@Override
+	public void close() throws IOException {
+
+		closed = true;
+		serverSocket.close();
+		for (Socket connection : connections) {
+			closeQuietly(connection);
+		}
+		connectionExecutor.shutdownNow();
+	}
+
+
+	/**
+	 * Virtual threads are created by reflection, so that the library still builds and runs before Java 21
+	 */
+	@VisibleForTesting
+	static ExecutorService newConnectionExecutor() {
+
+		try {
+			final Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			return Executors.newCachedThreadPool(task -> {
+				final Thread thread = new Thread(task, "date-diff-connection-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+
+	private void acceptConnections() {
+
+		while (!closed) {
+			final Socket connection;
+			try {
+				connection = serverSocket.accept();
+			} catch (IOException e) {
+				//Thrown once the server socket is closed, any other failure also stops the server
+				break;
+			}
+			//Added before closed is checked, so either close() sees the connection, or the connection sees closed
+			connections.add(connection);
+			if (closed) {
+				connections.remove(connection);
+				closeQuietly(connection);
+				break;
+			}
+			try {
+				connectionExecutor.execute(() -> handle(connection));
+			} catch (RejectedExecutionException e) {
+				//Accepted while the server was being closed
+				connections.remove(connection);
+				closeQuietly(connection);
+				break;
+			}
+		}
+	}
+
+
+	private void handle(final Socket connection) {
+
+		try (Socket socket = connection) {
+			socket.setTcpNoDelay(true);
+			//ISO-8859-1 maps each byte to a single char, so the HTTP Content-Length can be read as a count of chars
+			final BoundedLineReader reader = new BoundedLineReader(new BufferedReader(
+					new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1), DatePairProcessor.BUFFER_SIZE),
+					MAX_LINE_LENGTH);
+			final Writer writer = new BufferedWriter(
+					new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1), DatePairProcessor.BUFFER_SIZE);
+
+			final int firstLineLength = reader.readLine();
+			if (firstLineLength == BoundedLineReader.END_OF_STREAM) {
+				return;
+			}
+			if (firstLineLength == BoundedLineReader.LINE_TOO_LONG) {
+				writeLineTooLong(writer);
+				return;
+			}
+			final String firstLine = reader.getLine();
+			if (isHttpRequestLine(firstLine)) {
+				serveHttp(firstLine, reader, writer);
+			} else {
+				serveLines(firstLine, reader, writer);
+			}
+		} catch (IOException e) {
+			//Connection reset by the client, or closed by close(), nothing can be reported to a client we can't talk to
+		} finally {
+			connections.remove(connection);
+		}
+	}
+
+
+	/**
+	 * Answers each line, flushing only when no more requests are waiting to be read
+	 */
+	private static void serveLines(final String firstLine, final BoundedLineReader reader, final Writer writer) throws IOException {
+
+		final StringBuilder result = new StringBuilder(64);
+		String line = firstLine;
+		while (line != null) {
+			appendResult(line, result);
+			writer.append(result);
+			result.setLength(0);
+
+			if (!reader.ready()) {
+				writer.flush();
+			}
+			final int length = reader.readLine();
+			if (length == BoundedLineReader.LINE_TOO_LONG) {
+				writeLineTooLong(writer);
+				return;
+			}
+			line = length == BoundedLineReader.END_OF_STREAM ? null : reader.getLine();
+		}
+		writer.flush();
+	}
+
+
+	private static void writeLineTooLong(final Writer writer) throws IOException {
+
+		writer.append(ERROR_PREFIX).append(LINE_TOO_LONG_ERROR).append('\n');
+		writer.flush();
+	}
+
+
+	private static void serveHttp(final String firstRequestLine, final BoundedLineReader reader, final Writer writer) throws IOException {
+
+		String requestLine = firstRequestLine;
+		while (requestLine != null) {
+			if (requestLine.isEmpty()) {
+				//Tolerate a blank line between requests
+				requestLine = readHttpLine(reader, writer);
+				continue;
+			}
+
+			int contentLength = -1;
+			boolean keepAlive = requestLine.endsWith("1.1");
+			String header;
+			while ((header = readHttpLine(reader, writer)) != null && !header.isEmpty()) {
+				final String lowerCaseHeader = header.toLowerCase(Locale.ROOT);
+				if (lowerCaseHeader.startsWith(CONTENT_LENGTH_HEADER)) {
+					contentLength = parseContentLength(lowerCaseHeader.substring(CONTENT_LENGTH_HEADER.length()).trim());
+				} else if (lowerCaseHeader.startsWith(CONNECTION_HEADER)) {
+					final String connection = lowerCaseHeader.substring(CONNECTION_HEADER.length()).trim();
+					keepAlive = !"close".equals(connection) && (keepAlive || "keep-alive".equals(connection));
+				}
+			}
+			if (header == null) {
+				return;
+			}
+
+			final String[] parts = requestLine.split(" ");
+			if (parts.length != 3) {
+				writeHttpResponse(writer, "400 Bad Request", "", false);
+				return;
+			}
+			if (!"POST".equals(parts[0])) {
+				writeHttpResponse(writer, "405 Method Not Allowed", "", false);
+				return;
+			}
+			if (contentLength < 0) {
+				writeHttpResponse(writer, "411 Length Required", "", false);
+				return;
+			}
+			if (contentLength > MAX_BODY_LENGTH) {
+				writeHttpResponse(writer, "413 Payload Too Large", "", false);
+				return;
+			}
+
+			final char[] body = new char[contentLength];
+			int read = 0;
+			while (read < contentLength) {
+				final int count = reader.read(body, read, contentLength - read);
+				if (count < 0) {
+					return;
+				}
+				read += count;
+			}
+
+			if (!HTTP_PATH.equals(parts[1])) {
+				writeHttpResponse(writer, "404 Not Found", "", keepAlive);
+			} else {
+				writeHttpResponse(writer, "200 OK", diffBody(new String(body)), keepAlive);
+			}
+			if (!keepAlive) {
+				return;
+			}
+			requestLine = readHttpLine(reader, writer);
+		}
+	}
+
+
+	/**
+	 * @return the next request or header line, or null at the end of the stream, or if the line was too long,
+	 * (which is answered with 431, as the connection can't be read any further)
+	 */
+	private static String readHttpLine(final BoundedLineReader reader, final Writer writer) throws IOException {
+
+		final int length = reader.readLine();
+		if (length == BoundedLineReader.LINE_TOO_LONG) {
+			writeHttpResponse(writer, "431 Request Header Fields Too Large", LINE_TOO_LONG_ERROR, false);
+			return null;
+		}
+		return length == BoundedLineReader.END_OF_STREAM ? null : reader.getLine();
+	}
+
+
+	private static String diffBody(final String body) {
+
+		final StringBuilder results = new StringBuilder(body.length() + body.length() / 2);
+		int start = 0;
+		while (start < body.length()) {
+			int end = body.indexOf('\n', start);
+			if (end < 0) {
+				end = body.length();
+			}
+			final int lineEnd = end > start && body.charAt(end - 1) == '\r' ? end - 1 : end;
+			appendResult(body.substring(start, lineEnd), results);
+			start = end + 1;
+		}
+		return results.toString();
+	}
+
+
+	/**
+	 * Appends the result for the given line, (with a line separator), nothing is appended for a blank line
+	 */
+	@VisibleForTesting
+	static void appendResult(final String line, final StringBuilder out) {
+
+		if (DatePairLine.isBlank(line, 0, line.length())) {
+			return;
+		}
+		final int resultStart = out.length();
+		final String errorMsg = DatePairLine.appendDiff(line, 0, line.length(), out);
+		if (errorMsg != null) {
+			out.setLength(resultStart);
+			out.append(ERROR_PREFIX).append(errorMsg);
+		}
+		out.append('\n');
+	}
+
+
+	private static void writeHttpResponse(final Writer writer, final String status, final String body, final boolean keepAlive) throws IOException {
+
+		writer.append("HTTP/1.1 ").append(status).append(HTTP_LINE_SEPARATOR)
+				.append("Content-Type: text/plain; charset=ISO-8859-1").append(HTTP_LINE_SEPARATOR)
+				.append("Content-Length: ").append(Integer.toString(body.length())).append(HTTP_LINE_SEPARATOR)
+				.append("Connection: ").append(keepAlive ? "keep-alive" : "close").append(HTTP_LINE_SEPARATOR)
+				.append(HTTP_LINE_SEPARATOR)
+				.append(body);
+		writer.flush();
+	}
+
+
+	/**
+	 * @return true, if the line looks like an HTTP request line, e.g. "POST /diff HTTP/1.1"
+	 */
+	@VisibleForTesting
+	static boolean isHttpRequestLine(final String line) {
+
+		final int versionStart = line.lastIndexOf(' ') + 1;
+		return versionStart > 0 && line.startsWith(HTTP_VERSION_PREFIX, versionStart);
+	}
+
+
+	private static int parseContentLength(final String value) {
+
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException nfe) {
+			return -1;
+		}
+	}
+
+
+	private static void closeQuietly(final Socket socket) {
+
+		try {
+			socket.close();
+		} catch (IOException e) {
+			//Already closed
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package date.app;
+
+import date.annotations.VisibleForTesting;
+import date.model.Date;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Flow processor that subscribes to date pairs, (either "DD MM YYYY, DD MM YYYY" lines, or pairs of Dates),
+ * and publishes a DateDiffResult for each, in the same order.
+ * <p>
+ * Backpressure: at most bufferSize pairs are requested from upstream before the subscriber has asked for their results.
+ * Each time half of the buffer has been delivered, another half is requested, so upstream is asked for pairs in batches,
+ * rather than one at a time, and a fast publisher, (e.g. a file reader), can't queue more than bufferSize results
+ * ahead of a slow subscriber.
+ * <p>
+ * Pairs that can't be parsed, (or blank lines), are published as error results, see DateDiffResult.isValid,
+ * the stream is only ended by upstream completing, or failing, (after the results already buffered are delivered),
+ * or by the subscriber requesting 0 or less, (rule 3.9), which is sent as onError straight away, and drops the buffered results.
+ * <p>
+ * Only a single subscriber is supported, any further subscriber is sent onError.
+ * <p>
+ * e.g.
+ * DatePairFlowProcessor&lt;CharSequence&gt; processor = DatePairFlowProcessor.forLines();
+ * lines.subscribe(processor);
+ * processor.subscribe(resultWriter);
+ */
+public final class DatePairFlowProcessor<T> implements Flow.Processor<T, DateDiffResult> {
+
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	@VisibleForTesting
+	static final String BUFFER_SIZE_ERROR = "The buffer size must be at least 2, was %d";
+
+	@VisibleForTesting
+	static final String ALREADY_SUBSCRIBED_ERROR = "Only one subscriber is supported";
+
+	@VisibleForTesting
+	static final String NON_POSITIVE_REQUEST_ERROR = "The count of results requested must be greater than 0, was %d";
+
+	private final Function<T, DateDiffResult> diff;
+	private final int bufferSize;
+	private final int batchSize;
+
+	private final Queue<DateDiffResult> results = new ConcurrentLinkedQueue<>();
+	private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+	private final AtomicReference<Flow.Subscriber<? super DateDiffResult>> downstream = new AtomicReference<>();
+	private final AtomicLong requested = new AtomicLong();
+
+	/**
+	 * Count of calls to drain, only the caller that moves it from 0 delivers results, see drain
+	 */
+	private final AtomicInteger pendingDrains = new AtomicInteger();
+
+	private volatile boolean done;
+	private volatile Throwable failure;
+
+	/**
+	 * Set by an invalid request from the subscriber, (rule 3.9), sent straight away, ahead of any buffered results
+	 */
+	private volatile Throwable invalidRequest;
+	private volatile boolean cancelled;
+
+	/**
+	 * Results delivered since upstream was last asked for a batch, only used within drain
+	 */
+	private int deliveredInBatch;
+
+
+	private DatePairFlowProcessor(final Function<T, DateDiffResult> diff, final int bufferSize) {
+
+		if (bufferSize < 2) {
+			throw new IllegalArgumentException(String.format(BUFFER_SIZE_ERROR, bufferSize));
+		}
+		this.diff = diff;
+		this.bufferSize = bufferSize;
+		this.batchSize = bufferSize / 2;
+	}
+
+
+	/**
+	 * @return a processor for lines in the format "DD MM YYYY, DD MM YYYY"
+	 */
+	public static DatePairFlowProcessor<CharSequence> forLines() {
+
+		return forLines(DEFAULT_BUFFER_SIZE);
+	}
+
+
+	/**
+	 * @param bufferSize max count of lines requested, ahead of the subscriber's demand
+	 * @return a processor for lines in the format "DD MM YYYY, DD MM YYYY"
+	 */
+	public static DatePairFlowProcessor<CharSequence> forLines(final int bufferSize) {
+
+		return new DatePairFlowProcessor<>(DateDiffResult::fromLine, bufferSize);
+	}
+
+
+	/**
+	 * @return a processor for pairs of dates, (key and value), in either order
+	 */
+	public static DatePairFlowProcessor<Map.Entry<Date, Date>> forDatePairs() {
+
+		return forDatePairs(DEFAULT_BUFFER_SIZE);
+	}
+
+
+	/**
+	 * @param bufferSize max count of pairs requested, ahead of the subscriber's demand
+	 * @return a processor for pairs of dates, (key and value), in either order
+	 */
+	public static DatePairFlowProcessor<Map.Entry<Date, Date>> forDatePairs(final int bufferSize) {
+
+		return new DatePairFlowProcessor<>(DateDiffResult::fromPair, bufferSize);
+	}
+
+
+	@Override
+	public void onSubscribe(final Flow.Subscription subscription) {
+
+		if (!upstream.compareAndSet(null, subscription)) {
+			subscription.cancel();
+			return;
+		}
+		if (cancelled) {
+			subscription.cancel();
+			return;
+		}
+		subscription.request(bufferSize);
+	}
+
+
+	@Override
+	public void onNext(final T pair) {
+
+		if (done || cancelled) {
+			return;
+		}
+		if (pair == null) {
+			upstream.get().cancel();
+			onError(new NullPointerException("Date pairs cannot be null"));
+			return;
+		}
+		results.offer(diff.apply(pair));
+		drain();
+	}
+
+
+	@Override
+	public void onError(final Throwable throwable) {
+
+		if (done) {
+			return;
+		}
+		failure = throwable;
+		done = true;
+		drain();
+	}
+
+
+	@Override
+	public void onComplete() {
+
+		done = true;
+		drain();
+	}
+
+
+	@Override
+	public void subscribe(final Flow.Subscriber<? super DateDiffResult> subscriber) {
+
+		if (!downstream.compareAndSet(null, subscriber)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(final long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException(ALREADY_SUBSCRIBED_ERROR));
+			return;
+		}
+
+		subscriber.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(final long n) {
+
+				if (n <= 0) {
+					if (!cancelled) {
+						invalidRequest = new IllegalArgumentException(String.format(NON_POSITIVE_REQUEST_ERROR, n));
+						cancelUpstream();
+						drain();
+					}
+					return;
+				}
+				addRequested(n);
+				drain();
+			}
+
+			@Override
+			public void cancel() {
+
+				cancelled = true;
+				cancelUpstream();
+				drain();
+			}
+		});
+		drain();
+	}
+
+
+	/**
+	 * Delivers as many buffered results as the subscriber has asked for, then any terminal signal.
+	 * <p>
+	 * Called from both the upstream and the subscriber's threads, but results are only delivered by one thread
+	 * at a time, the one that finds no other drain in progress. The others just record that there is more to do,
+	 * which the delivering thread picks up before it leaves.
+	 */
+	private void drain() {
+
+		if (pendingDrains.getAndIncrement() != 0) {
+			return;
+		}
+
+		int missed = 1;
+		do {
+			final Flow.Subscriber<? super DateDiffResult> subscriber = downstream.get();
+			final Throwable immediateFailure = invalidRequest;
+			if (immediateFailure != null && !cancelled && subscriber != null) {
+				results.clear();
+				terminate(subscriber, immediateFailure);
+				return;
+			}
+			if (cancelled) {
+				results.clear();
+			} else if (subscriber != null) {
+				final long demand = requested.get();
+				long delivered = 0;
+				while (delivered != demand) {
+					final boolean finished = done;
+					final DateDiffResult result = results.poll();
+					if (result == null) {
+						if (finished) {
+							terminate(subscriber, failure);
+							return;
+						}
+						break;
+					}
+					subscriber.onNext(result);
+					delivered++;
+					requestNextBatch();
+					if (cancelled || invalidRequest != null) {
+						break;
+					}
+				}
+
+				if (delivered == demand && done && results.isEmpty() && !cancelled && invalidRequest == null) {
+					terminate(subscriber, failure);
+					return;
+				}
+				if (delivered != 0 && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-delivered);
+				}
+			}
+			missed = pendingDrains.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+
+	/**
+	 * Sends the terminal signal, the drain is never released afterwards, so nothing else is delivered
+	 *
+	 * @param error sent with onError, or null to complete the subscriber
+	 */
+	private void terminate(final Flow.Subscriber<? super DateDiffResult> subscriber, final Throwable error) {
+
+		cancelled = true;
+		if (error != null) {
+			subscriber.onError(error);
+		} else {
+			subscriber.onComplete();
+		}
+	}
+
+
+	private void requestNextBatch() {
+
+		if (++deliveredInBatch == batchSize) {
+			deliveredInBatch = 0;
+			final Flow.Subscription subscription = upstream.get();
+			if (subscription != null && !done) {
+				subscription.request(batchSize);
+			}
+		}
+	}
+
+
+	private void cancelUpstream() {
+
+		final Flow.Subscription subscription = upstream.get();
+		if (subscription != null) {
+			subscription.cancel();
+		}
+	}
+
+
+	/**
+	 * Adds to the subscriber's demand, capped at Long.MAX_VALUE, i.e. unbounded
+	 */
+	private void addRequested(final long n) {
+
+		long current;
+		long updated;
+		do {
+			current = requested.get();
+			if (current == Long.MAX_VALUE) {
+				return;
+			}
+			updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+		} while (!requested.compareAndSet(current, updated));
+	}
+}
@@ -0,0 +1,123 @@
+package date.app;
+
+import date.annotations.VisibleForTesting;
+import date.model.Date;
+import date.model.DateError;
+import date.model.DateParser;
+import date.model.PackedDates;
+import date.model.YearRange;
+
+/**
+ * Processes a single line of input, in the format
+ * <p>
+ * DD MM YYYY, DD MM YYYY
+ * <p>
+ * into a line of output, in the format
+ * <p>
+ * DD MM YYYY, DD MM YYYY, difference
+ * <p>
+ * Where the first date is the earliest, the second date is the latest and the difference is the number of days.
+ * <p>
+ * Package local, shared by the streaming, memory mapped and Flow processors, and the server.
+ */
+final class DatePairLine {
+
+	@VisibleForTesting
+	static final String INVALID_DATE_PAIR_ERROR = "[%s] is not a valid date pair, it must be in the format DD MM YYYY, DD MM YYYY";
+
+	private static final char DATE_SEPARATOR = ',';
+	private static final String OUTPUT_SEPARATOR = ", ";
+
+
+	private DatePairLine() {
+	}
+
+
+	/**
+	 * Parses the date pair between start (inclusive) and end (exclusive), and appends the
+	 * ordered dates and the difference between them, in days, to the given builder.
+	 * <p>
+	 * Invalid lines are rejected without an exception, (see DateParser.tryParsePacked), and nothing is appended.
+	 *
+	 * @param line  text containing the date pair
+	 * @param start index of the first char of the date pair
+	 * @param end   index after the last char of the date pair
+	 * @param out   builder the result is appended to, (without a line separator)
+	 * @return null, if the line was valid, otherwise the reason the line was rejected
+	 */
+	static String appendDiff(final CharSequence line, final int start, final int end, final StringBuilder out) {
+
+		final int separator = findSeparator(line, start, end);
+		if (separator < 0) {
+			return String.format(INVALID_DATE_PAIR_ERROR, line.subSequence(start, end));
+		}
+		final int secondDateStart = secondDateStart(line, separator, end);
+
+		final int first = DateParser.tryParsePacked(line, start, separator);
+		if (first < 0) {
+			return DateParser.getErrorMessage(DateError.fromCode(first), line, start, separator, YearRange.DEFAULT);
+		}
+		final int second = DateParser.tryParsePacked(line, secondDateStart, end);
+		if (second < 0) {
+			return DateParser.getErrorMessage(DateError.fromCode(second), line, secondDateStart, end, YearRange.DEFAULT);
+		}
+
+		if (first > second) {
+			appendOrdered(PackedDates.toDate(second), PackedDates.toDate(first), out);
+		} else {
+			appendOrdered(PackedDates.toDate(first), PackedDates.toDate(second), out);
+		}
+		return null;
+	}
+
+
+	/**
+	 * @return the index of the comma between the 2 dates, or -1 if there is no comma
+	 */
+	static int findSeparator(final CharSequence line, final int start, final int end) {
+
+		for (int i = start; i < end; i++) {
+			if (line.charAt(i) == DATE_SEPARATOR) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * Allows any spacing after the comma, e.g. "DD MM YYYY,DD MM YYYY"
+	 *
+	 * @return the index of the first char of the second date
+	 */
+	static int secondDateStart(final CharSequence line, final int separator, final int end) {
+
+		int secondDateStart = separator + 1;
+		while (secondDateStart < end && line.charAt(secondDateStart) == ' ') {
+			secondDateStart++;
+		}
+		return secondDateStart;
+	}
+
+
+	private static void appendOrdered(final Date earliest, final Date latest, final StringBuilder out) {
+
+		earliest.appendTo(out).append(OUTPUT_SEPARATOR);
+		latest.appendTo(out).append(OUTPUT_SEPARATOR);
+		out.append(earliest.daysBetween(latest));
+	}
+
+
+	/**
+	 * @return true, if the chars between start and end are all whitespace, i.e. the line can be skipped
+	 */
+	static boolean isBlank(final CharSequence line, final int start, final int end) {
+
+		for (int i = start; i < end; i++) {
+			if (line.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,69 @@
+package date.app;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Streaming processor for date pairs.
+ * <p>
+ * Reads lines in the format "DD MM YYYY, DD MM YYYY", one at a time, and writes lines in the format
+ * "DD MM YYYY, DD MM YYYY, difference", earliest date first.
+ * <p>
+ * Input and output are buffered, and only the current line is held in memory, so memory use is constant,
+ * regardless of the size of the input.
+ * Invalid lines are reported to the errors writer, (with their line number), and skipped.
+ */
+public final class DatePairProcessor {
+
+	static final int BUFFER_SIZE = 1 << 16;
+
+	private static final String LINE_ERROR = "line %d: %s";
+
+
+	private DatePairProcessor() {
+	}
+
+
+	/**
+	 * Processes every line of the input, blank lines are ignored.
+	 *
+	 * @param input  reader for the date pairs
+	 * @param output writer for the results, flushed once the input is exhausted
+	 * @param errors writer for the invalid line messages
+	 * @return the count of invalid lines
+	 * @throws IOException if the input can't be read, or the output written
+	 */
+	public static long process(final Reader input, final Writer output, final Writer errors) throws IOException {
+
+		final BufferedReader reader = new BufferedReader(input, BUFFER_SIZE);
+		final BufferedWriter writer = new BufferedWriter(output, BUFFER_SIZE);
+		final StringBuilder result = new StringBuilder(64);
+
+		long lineNumber = 0;
+		long invalidLines = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (DatePairLine.isBlank(line, 0, line.length())) {
+				continue;
+			}
+
+			result.setLength(0);
+			final String errorMsg = DatePairLine.appendDiff(line, 0, line.length(), result);
+			if (errorMsg != null) {
+				invalidLines++;
+				errors.write(String.format(LINE_ERROR, lineNumber, errorMsg));
+				errors.write(System.lineSeparator());
+				continue;
+			}
+			writer.append(result).write(System.lineSeparator());
+		}
+
+		writer.flush();
+		errors.flush();
+		return invalidLines;
+	}
+}
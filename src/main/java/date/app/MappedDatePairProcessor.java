@@ -0,0 +1,265 @@
+package date.app;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk processor for very large files of date pairs.
+ * <p>
+ * The file is memory mapped (FileChannel.map) and split into line aligned chunks, each chunk is parsed
+ * and diffed on its own thread, (using the same DatePairLine logic as the streaming DatePairProcessor).
+ * Results are written in the same order as the input.
+ * <p>
+ * Only a bounded number of chunks (2 per thread) are in flight at any time, so memory use
+ * depends on the chunk size and thread count, not on the size of the file.
+ * <p>
+ * Lines are split the same way as DatePairProcessor, (i.e. BufferedReader.readLine), on \n, \r, or \r\n,
+ * so both report the same line numbers. The file is read as UTF-8, the same as DateDiffApp's streaming input.
+ * Dates are parsed from the bytes, (only ASCII chars can be part of a valid date, and they are the same bytes in UTF-8),
+ * and only the text quoted in error messages is decoded, see AsciiCharSequence.
+ */
+public final class MappedDatePairProcessor {
+
+	static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+	private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+	private static final int BOUNDARY_SCAN_SIZE = 4096;
+	private static final byte NEW_LINE = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+	private static final String LINE_ERROR = "line %d: %s";
+
+
+	private MappedDatePairProcessor() {
+	}
+
+
+	/**
+	 * Processes every line in the file, using a thread per available processor.
+	 *
+	 * @see #process(Path, OutputStream, Writer, int)
+	 */
+	public static long process(final Path input, final OutputStream output, final Writer errors) throws IOException {
+
+		return process(input, output, errors, Runtime.getRuntime().availableProcessors());
+	}
+
+
+	/**
+	 * Processes every line in the file, blank lines are ignored.
+	 *
+	 * @param input   file of date pairs, in the format "DD MM YYYY, DD MM YYYY"
+	 * @param output  stream for the results, in the format "DD MM YYYY, DD MM YYYY, difference"
+	 * @param errors  writer for the invalid line messages
+	 * @param threads count of threads used to process the chunks
+	 * @return the count of invalid lines
+	 * @throws IOException if the input can't be read, or the output written
+	 */
+	public static long process(final Path input, final OutputStream output, final Writer errors, final int threads) throws IOException {
+
+		return process(input, output, errors, threads, DEFAULT_CHUNK_SIZE);
+	}
+
+
+	static long process(final Path input, final OutputStream output, final Writer errors, final int threads, final int chunkSize) throws IOException {
+
+		if (threads <= 0) {
+			throw new IllegalArgumentException("The thread count must be greater than 0, was " + threads);
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread = new Thread(runnable, "date-pair-chunk");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+
+			final OutputStream out = new BufferedOutputStream(output, DatePairProcessor.BUFFER_SIZE);
+			final Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+			final int maxInFlight = threads * CHUNKS_IN_FLIGHT_PER_THREAD;
+			final long size = channel.size();
+
+			long linesWritten = 0;
+			long invalidLines = 0;
+			long chunkStart = 0;
+			while (chunkStart < size || !inFlight.isEmpty()) {
+
+				if (chunkStart < size && inFlight.size() < maxInFlight) {
+					final long chunkEnd = findChunkEnd(channel, chunkStart, chunkSize, size);
+					final long start = chunkStart;
+					inFlight.addLast(executor.submit(() -> processChunk(channel, start, chunkEnd)));
+					chunkStart = chunkEnd;
+					continue;
+				}
+
+				//Write out the oldest chunk, to keep the output in the same order as the input
+				final ChunkResult result = await(inFlight.removeFirst());
+				out.write(result.output);
+				for (int i = 0; i < result.errorMessages.size(); i++) {
+					errors.write(String.format(LINE_ERROR, linesWritten + result.errorLines.get(i), result.errorMessages.get(i)));
+					errors.write(System.lineSeparator());
+				}
+				invalidLines += result.errorMessages.size();
+				linesWritten += result.lineCount;
+			}
+
+			out.flush();
+			errors.flush();
+			return invalidLines;
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+
+	/**
+	 * Finds the end of the chunk starting at chunkStart, i.e. the position after the first line separator
+	 * at, or after, chunkStart + chunkSize. (Or the end of the file)
+	 * <p>
+	 * A \r\n separator is never split across chunks, otherwise the \n would be read as a blank line.
+	 */
+	private static long findChunkEnd(final FileChannel channel, final long chunkStart, final int chunkSize, final long size) throws IOException {
+
+		long position = chunkStart + chunkSize - 1;
+		if (position >= size - 1) {
+			return size;
+		}
+
+		final ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+		while (position < size) {
+			scan.clear();
+			final int read = channel.read(scan, position);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				final byte b = scan.get(i);
+				if (b == NEW_LINE) {
+					return position + i + 1;
+				}
+				if (b == CARRIAGE_RETURN) {
+					final long next = position + i + 1;
+					return next < size && byteAt(channel, next, scan, position, read) == NEW_LINE ? next + 1 : next;
+				}
+			}
+			position += read;
+		}
+		return size;
+	}
+
+
+	/**
+	 * @return the byte at the given position, from the scan buffer, if it was read into it, otherwise from the channel
+	 */
+	private static byte byteAt(final FileChannel channel, final long position, final ByteBuffer scan, final long scanPosition, final int scanRead) throws IOException {
+
+		if (position < scanPosition + scanRead) {
+			return scan.get((int) (position - scanPosition));
+		}
+		final ByteBuffer single = ByteBuffer.allocate(1);
+		return channel.read(single, position) == 1 ? single.get(0) : 0;
+	}
+
+
+	private static ChunkResult processChunk(final FileChannel channel, final long start, final long end) throws IOException {
+
+		final long length = end - start;
+		if (length > Integer.MAX_VALUE) {
+			throw new IOException("Line too long, starting at position " + start);
+		}
+
+		final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		final AsciiCharSequence chars = new AsciiCharSequence(buffer);
+		final StringBuilder out = new StringBuilder((int) Math.min(length + length / 2, Integer.MAX_VALUE - 8));
+		final ChunkResult result = new ChunkResult();
+		final String lineSeparator = System.lineSeparator();
+
+		final int limit = buffer.limit();
+		int lineStart = 0;
+		while (lineStart < limit) {
+			int lineEnd = lineStart;
+			while (lineEnd < limit && !isLineSeparator(buffer.get(lineEnd))) {
+				lineEnd++;
+			}
+			int next = lineEnd + 1;
+			if (next < limit && buffer.get(lineEnd) == CARRIAGE_RETURN && buffer.get(next) == NEW_LINE) {
+				next++;
+			}
+
+			result.lineCount++;
+			if (!DatePairLine.isBlank(chars, lineStart, lineEnd)) {
+				final String errorMsg = DatePairLine.appendDiff(chars, lineStart, lineEnd, out);
+				if (errorMsg == null) {
+					out.append(lineSeparator);
+				} else {
+					result.errorLines.add(result.lineCount);
+					result.errorMessages.add(errorMsg);
+				}
+			}
+			lineStart = next;
+		}
+
+		result.output = toAscii(out);
+		return result;
+	}
+
+
+	private static boolean isLineSeparator(final byte b) {
+
+		return b == NEW_LINE || b == CARRIAGE_RETURN;
+	}
+
+
+	private static byte[] toAscii(final StringBuilder sb) {
+
+		final byte[] bytes = new byte[sb.length()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) sb.charAt(i);
+		}
+		return bytes;
+	}
+
+
+	private static ChunkResult await(final Future<ChunkResult> future) throws IOException {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while processing the date pairs", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException("Failed to process the date pairs", e.getCause());
+		}
+	}
+
+
+	/**
+	 * Output of a single chunk, error line numbers are relative to the start of the chunk.
+	 */
+	private static final class ChunkResult {
+
+		private byte[] output;
+		private int lineCount;
+		private final List<Integer> errorLines = new ArrayList<>();
+		private final List<String> errorMessages = new ArrayList<>();
+	}
+}
@@ -0,0 +1,228 @@
+package date.collection;
+
+import date.annotations.VisibleForTesting;
+import date.model.Date;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable, sorted index of dates, held as a single column of (primitive) epoch days, see Date.getEpochDay
+ * <p>
+ * Answers count, range, floor and ceiling queries with a binary search, i.e. in O(log n), e.g.
+ * <p>
+ * index.count(new Date("01 03 1995"), new Date("30 06 1999"))
+ * <p>
+ * Duplicate dates are kept, so counts are counts of records, not of distinct dates.
+ * Range queries include both the from and the to date.
+ */
+public final class DateIndex {
+
+	/**
+	 * Widest span of days that is sorted with a counting sort, (i.e. in linear time).
+	 * Covers the default year range, 1900 - 2010, with plenty to spare.
+	 * Wider spans, (only possible with a custom Year range), fall back to Arrays.sort
+	 */
+	static final int MAX_COUNTING_SORT_SPAN = 1 << 20;
+
+	private final int[] epochDays;
+
+
+	/**
+	 * Builds the index from the given dates
+	 *
+	 * @param dates dates to be indexed, must not contain nulls
+	 */
+	public DateIndex(final Collection<Date> dates) {
+
+		final int[] unsorted = new int[dates.size()];
+		int i = 0;
+		for (Date date : dates) {
+			unsorted[i++] = date.getEpochDay();
+		}
+		this.epochDays = sort(unsorted);
+	}
+
+
+	/**
+	 * Builds the index from a column of epoch days
+	 *
+	 * @param epochDays epoch days to be indexed, (the array is copied, not modified)
+	 * @return the index
+	 * @throws IllegalArgumentException if any epoch day is not a date in the full year range, 0001 - 9999
+	 */
+	public static DateIndex fromEpochDays(final int[] epochDays) throws IllegalArgumentException {
+
+		for (int epochDay : epochDays) {
+			EpochDays.validate(epochDay);
+		}
+		return new DateIndex(sort(epochDays.clone()));
+	}
+
+
+	private DateIndex(final int[] sortedEpochDays) {
+
+		this.epochDays = sortedEpochDays;
+	}
+
+
+	public int size() {
+
+		return epochDays.length;
+	}
+
+
+	public boolean isEmpty() {
+
+		return epochDays.length == 0;
+	}
+
+
+	/**
+	 * @return the count of dates in the index, from (inclusive) to (inclusive), 0 if from is after to
+	 */
+	public int count(final Date from, final Date to) {
+
+		return count(from.getEpochDay(), to.getEpochDay());
+	}
+
+
+	/**
+	 * @return the count of epoch days in the index, from (inclusive) to (inclusive), 0 if from is after to
+	 */
+	public int count(final int fromEpochDay, final int toEpochDay) {
+
+		if (fromEpochDay > toEpochDay) {
+			return 0;
+		}
+		return upperBound(toEpochDay) - lowerBound(fromEpochDay);
+	}
+
+
+	/**
+	 * @return the epoch days in the index, from (inclusive) to (inclusive), in ascending order
+	 */
+	public int[] range(final Date from, final Date to) {
+
+		return range(from.getEpochDay(), to.getEpochDay());
+	}
+
+
+	/**
+	 * @return the epoch days in the index, from (inclusive) to (inclusive), in ascending order
+	 */
+	public int[] range(final int fromEpochDay, final int toEpochDay) {
+
+		if (fromEpochDay > toEpochDay) {
+			return new int[0];
+		}
+		return Arrays.copyOfRange(epochDays, lowerBound(fromEpochDay), upperBound(toEpochDay));
+	}
+
+
+	/**
+	 * @return the latest date in the index, on or before the given date, or null if there is none
+	 */
+	public Date floor(final Date date) {
+
+		final int i = upperBound(date.getEpochDay()) - 1;
+		return i < 0 ? null : EpochDays.toDate(epochDays[i]);
+	}
+
+
+	/**
+	 * @return the earliest date in the index, on or after the given date, or null if there is none
+	 */
+	public Date ceiling(final Date date) {
+
+		final int i = lowerBound(date.getEpochDay());
+		return i == epochDays.length ? null : EpochDays.toDate(epochDays[i]);
+	}
+
+
+	/**
+	 * @return a copy of the indexed epoch days, in ascending order
+	 */
+	public int[] epochDays() {
+
+		return epochDays.clone();
+	}
+
+
+	/**
+	 * @return the index of the first epoch day that is greater than or equal to the key
+	 */
+	private int lowerBound(final int key) {
+
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (epochDays[mid] < key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * @return the index of the first epoch day that is greater than the key
+	 */
+	private int upperBound(final int key) {
+
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (epochDays[mid] <= key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * Sorts the epoch days, in place, with a counting sort over the span of the keys, (linear time),
+	 * unless the span is too wide for the counts to be worth allocating.
+	 *
+	 * @return the given (sorted) array
+	 */
+	@VisibleForTesting
+	static int[] sort(final int[] epochDays) {
+
+		if (epochDays.length < 2) {
+			return epochDays;
+		}
+
+		int min = epochDays[0];
+		int max = epochDays[0];
+		for (int epochDay : epochDays) {
+			min = Math.min(min, epochDay);
+			max = Math.max(max, epochDay);
+		}
+
+		final long span = (long) max - min + 1;
+		if (span > MAX_COUNTING_SORT_SPAN) {
+			Arrays.sort(epochDays);
+			return epochDays;
+		}
+
+		final int[] counts = new int[(int) span];
+		for (int epochDay : epochDays) {
+			counts[epochDay - min]++;
+		}
+		int i = 0;
+		for (int offset = 0; offset < counts.length; offset++) {
+			for (int count = counts[offset]; count > 0; count--) {
+				epochDays[i++] = min + offset;
+			}
+		}
+		return epochDays;
+	}
+}
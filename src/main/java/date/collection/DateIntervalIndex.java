@@ -0,0 +1,293 @@
+package date.collection;
+
+import date.model.Date;
+
+import java.util.Arrays;
+
+/**
+ * Immutable index of date intervals, (e.g. the start and end date pairs processed by DateDiffApp),
+ * held as columns of (primitive) epoch days, see Date.getEpochDay
+ * <p>
+ * Intervals include both their start and end date. An interval with the end before the start is swapped,
+ * the same as the date pairs in DatePairProcessor.
+ * <p>
+ * Intervals are sorted by start day, and laid out as an implicit, balanced, interval tree, (the middle interval of
+ * each range is the root of that range), where each node also holds the latest end day in its subtree.
+ * Subtrees that end before the query are skipped, so stabbing and overlap queries run in O(log n + k).
+ * <p>
+ * Counts don't need the tree, they are answered in O(log n) from the sorted start and end columns, i.e.
+ * overlapping = all - (intervals that start after the query) - (intervals that end before the query)
+ */
+public final class DateIntervalIndex {
+
+	private static final String INTERVAL_LENGTH_MISMATCH_ERROR = "There must be an end date for each start date, [%d] start and [%d] end dates were provided";
+
+	/**
+	 * Interval columns, sorted by start day, the id is the position of the interval in the original input
+	 */
+	private final int[] starts;
+	private final int[] ends;
+	private final int[] ids;
+
+	/**
+	 * Latest end day in the subtree rooted at each interval
+	 */
+	private final int[] maxEnds;
+
+	/**
+	 * End days, sorted independently of the starts, for the counts
+	 */
+	private final int[] sortedEnds;
+
+
+	/**
+	 * Builds the index from the given intervals, i.e. starts[i] to ends[i]
+	 *
+	 * @param starts start date of each interval
+	 * @param ends   end date of each interval
+	 */
+	public DateIntervalIndex(final Date[] starts, final Date[] ends) {
+
+		this(toEpochDays(starts), toEpochDays(ends));
+	}
+
+
+	/**
+	 * Builds the index from the given intervals, i.e. startEpochDays[i] to endEpochDays[i], see Date.getEpochDay
+	 *
+	 * @param startEpochDays start day of each interval
+	 * @param endEpochDays   end day of each interval
+	 * @return the index
+	 * @throws IllegalArgumentException if there is not an end day for each start day,
+	 *                                  or any epoch day is not a date in the full year range, 0001 - 9999
+	 */
+	public static DateIntervalIndex fromEpochDays(final int[] startEpochDays, final int[] endEpochDays) throws IllegalArgumentException {
+
+		for (int epochDay : startEpochDays) {
+			EpochDays.validate(epochDay);
+		}
+		for (int epochDay : endEpochDays) {
+			EpochDays.validate(epochDay);
+		}
+		return new DateIntervalIndex(startEpochDays, endEpochDays);
+	}
+
+
+	private DateIntervalIndex(final int[] startEpochDays, final int[] endEpochDays) {
+
+		if (startEpochDays.length != endEpochDays.length) {
+			throw new IllegalArgumentException(String.format(INTERVAL_LENGTH_MISMATCH_ERROR, startEpochDays.length, endEpochDays.length));
+		}
+
+		final int size = startEpochDays.length;
+		final long[] startsAndIds = new long[size];
+		final int[] orderedEnds = new int[size];
+		for (int i = 0; i < size; i++) {
+			final int start = Math.min(startEpochDays[i], endEpochDays[i]);
+			orderedEnds[i] = Math.max(startEpochDays[i], endEpochDays[i]);
+			startsAndIds[i] = ((long) start << 32) | i;
+		}
+		Arrays.sort(startsAndIds);
+
+		this.starts = new int[size];
+		this.ends = new int[size];
+		this.ids = new int[size];
+		for (int i = 0; i < size; i++) {
+			final int id = (int) startsAndIds[i];
+			starts[i] = (int) (startsAndIds[i] >> 32);
+			ends[i] = orderedEnds[id];
+			ids[i] = id;
+		}
+
+		this.maxEnds = new int[size];
+		buildMaxEnds(0, size);
+
+		Arrays.sort(orderedEnds);
+		this.sortedEnds = orderedEnds;
+	}
+
+
+	public int size() {
+
+		return starts.length;
+	}
+
+
+	/**
+	 * @return the positions, (in the original input), of the intervals that contain the given date, ordered by start date
+	 */
+	public int[] containing(final Date date) {
+
+		final int epochDay = date.getEpochDay();
+		return overlapping(epochDay, epochDay);
+	}
+
+
+	/**
+	 * @return the positions, (in the original input), of the intervals that overlap from (inclusive) to (inclusive),
+	 * ordered by start date
+	 */
+	public int[] overlapping(final Date from, final Date to) {
+
+		return overlapping(from.getEpochDay(), to.getEpochDay());
+	}
+
+
+	/**
+	 * @return the positions, (in the original input), of the intervals that overlap the given days, ordered by start day
+	 */
+	public int[] overlapping(final int fromEpochDay, final int toEpochDay) {
+
+		final Matches matches = new Matches();
+		if (fromEpochDay <= toEpochDay) {
+			collectOverlapping(0, starts.length, fromEpochDay, toEpochDay, matches);
+		}
+		return matches.toArray();
+	}
+
+
+	/**
+	 * @return the count of intervals that contain the given date
+	 */
+	public int countContaining(final Date date) {
+
+		final int epochDay = date.getEpochDay();
+		return countOverlapping(epochDay, epochDay);
+	}
+
+
+	/**
+	 * @return the count of intervals that overlap from (inclusive) to (inclusive)
+	 */
+	public int countOverlapping(final Date from, final Date to) {
+
+		return countOverlapping(from.getEpochDay(), to.getEpochDay());
+	}
+
+
+	/**
+	 * @return the count of intervals that overlap the given days
+	 */
+	public int countOverlapping(final int fromEpochDay, final int toEpochDay) {
+
+		if (fromEpochDay > toEpochDay) {
+			return 0;
+		}
+		final int startAfter = starts.length - countAtMost(starts, toEpochDay);
+		final int endBefore = countBelow(sortedEnds, fromEpochDay);
+		return starts.length - startAfter - endBefore;
+	}
+
+
+	/**
+	 * The subtree for the range low (inclusive) to high (exclusive) is rooted at the middle interval
+	 *
+	 * @return the latest end day in the subtree
+	 */
+	private int buildMaxEnds(final int low, final int high) {
+
+		if (low >= high) {
+			return Integer.MIN_VALUE;
+		}
+		final int mid = (low + high) >>> 1;
+		final int maxEnd = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+		maxEnds[mid] = maxEnd;
+		return maxEnd;
+	}
+
+
+	private void collectOverlapping(final int low, final int high, final int from, final int to, final Matches matches) {
+
+		if (low >= high) {
+			return;
+		}
+		final int mid = (low + high) >>> 1;
+		if (maxEnds[mid] < from) {
+			//Nothing in this subtree ends on or after the query starts
+			return;
+		}
+
+		collectOverlapping(low, mid, from, to, matches);
+		if (starts[mid] <= to) {
+			if (ends[mid] >= from) {
+				matches.add(ids[mid]);
+			}
+			//Only the intervals after mid can start after the query ends
+			collectOverlapping(mid + 1, high, from, to, matches);
+		}
+	}
+
+
+	/**
+	 * @return the count of (sorted) days that are less than or equal to the key
+	 */
+	private static int countAtMost(final int[] sortedDays, final int key) {
+
+		int low = 0;
+		int high = sortedDays.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (sortedDays[mid] <= key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * @return the count of (sorted) days that are less than the key, (rather than countAtMost(key - 1), which overflows
+	 * for Integer.MIN_VALUE)
+	 */
+	private static int countBelow(final int[] sortedDays, final int key) {
+
+		int low = 0;
+		int high = sortedDays.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (sortedDays[mid] < key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	private static int[] toEpochDays(final Date[] dates) {
+
+		final int[] epochDays = new int[dates.length];
+		for (int i = 0; i < dates.length; i++) {
+			epochDays[i] = dates[i].getEpochDay();
+		}
+		return epochDays;
+	}
+
+
+	/**
+	 * Growable int[] for the ids of the matching intervals
+	 */
+	private static final class Matches {
+
+		private int[] ids = new int[8];
+		private int size;
+
+
+		void add(final int id) {
+
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+
+		int[] toArray() {
+
+			return Arrays.copyOf(ids, size);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package date.collection;
+
+import date.model.Date;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Open addressing hash map, keyed by the (primitive) epoch day of a Date, see Date.getEpochDay
+ * <p>
+ * Keys are held in an int[], and values in a parallel Object[], so per-day lookups don't box the key,
+ * or chase a pointer per entry. Collisions are resolved by linear probing.
+ * <p>
+ * nb: Not thread safe. Null values are allowed, get returns null for both a missing key and a null value.
+ *
+ * @param <V> the type of the mapped values
+ */
+public final class DateMap<V> {
+
+	static final int DEFAULT_CAPACITY = 16;
+
+	private int[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+
+
+	public DateMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/**
+	 * @param expectedSize count of entries the map can hold before it is resized
+	 */
+	public DateMap(final int expectedSize) {
+
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size cannot be negative, was " + expectedSize);
+		}
+		allocate(EpochDayHashing.tableSizeFor(expectedSize));
+	}
+
+
+	public V put(final Date date, final V value) {
+
+		return put(date.getEpochDay(), value);
+	}
+
+
+	/**
+	 * Maps the given epoch day to the value.
+	 *
+	 * @param epochDay key, see Date.getEpochDay
+	 * @param value    value to be mapped
+	 * @return the previous value, or null if there was none
+	 * @throws IllegalArgumentException if the epoch day is not a date in the full year range, 0001 - 9999
+	 */
+	public V put(final int epochDay, final V value) throws IllegalArgumentException {
+
+		EpochDayHashing.validateKey(epochDay);
+		int slot = EpochDayHashing.slot(epochDay, mask);
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			if (keys[slot] == epochDay) {
+				final V previous = valueAt(slot);
+				values[slot] = value;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		keys[slot] = epochDay;
+		values[slot] = value;
+		if (++size > EpochDayHashing.maxSize(keys.length)) {
+			resize();
+		}
+		return null;
+	}
+
+
+	public V get(final Date date) {
+
+		return get(date.getEpochDay());
+	}
+
+
+	/**
+	 * @param epochDay key, see Date.getEpochDay
+	 * @return the value mapped to the epoch day, or null if there is none
+	 */
+	public V get(final int epochDay) {
+
+		final int slot = find(epochDay);
+		return slot < 0 ? null : valueAt(slot);
+	}
+
+
+	public boolean containsKey(final Date date) {
+
+		return containsKey(date.getEpochDay());
+	}
+
+
+	public boolean containsKey(final int epochDay) {
+
+		return find(epochDay) >= 0;
+	}
+
+
+	public V remove(final Date date) {
+
+		return remove(date.getEpochDay());
+	}
+
+
+	/**
+	 * Removes the mapping for the epoch day
+	 *
+	 * @param epochDay key, see Date.getEpochDay
+	 * @return the removed value, or null if there was none
+	 */
+	public V remove(final int epochDay) {
+
+		final int slot = find(epochDay);
+		if (slot < 0) {
+			return null;
+		}
+		final V previous = valueAt(slot);
+		removeAt(slot);
+		return previous;
+	}
+
+
+	public int size() {
+
+		return size;
+	}
+
+
+	public boolean isEmpty() {
+
+		return size == 0;
+	}
+
+
+	public void clear() {
+
+		Arrays.fill(keys, EpochDayHashing.EMPTY);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+
+	/**
+	 * @return the epoch days in the map, in no particular order
+	 */
+	public int[] epochDays() {
+
+		final int[] epochDays = new int[size];
+		int i = 0;
+		for (int key : keys) {
+			if (key != EpochDayHashing.EMPTY) {
+				epochDays[i++] = key;
+			}
+		}
+		return epochDays;
+	}
+
+
+	/**
+	 * Calls the action for each entry, in no particular order.
+	 * nb: a Date is created for each key, use epochDays and get(int) to avoid that.
+	 */
+	public void forEach(final BiConsumer<Date, ? super V> action) {
+
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != EpochDayHashing.EMPTY) {
+				action.accept(EpochDays.toDate(keys[slot]), valueAt(slot));
+			}
+		}
+	}
+
+
+	private int find(final int epochDay) {
+
+		int slot = EpochDayHashing.slot(epochDay, mask);
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			if (keys[slot] == epochDay) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * Removes the entry at the slot, then shifts any following entries in the same probe sequence
+	 * back, so that no tombstones are needed.
+	 */
+	private void removeAt(final int removedSlot) {
+
+		int gap = removedSlot;
+		int slot = (gap + 1) & mask;
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			final int home = EpochDayHashing.slot(keys[slot], mask);
+			if (EpochDayHashing.canMoveTo(gap, home, slot, mask)) {
+				keys[gap] = keys[slot];
+				values[gap] = values[slot];
+				gap = slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[gap] = EpochDayHashing.EMPTY;
+		values[gap] = null;
+		size--;
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(final int slot) {
+
+		return (V) values[slot];
+	}
+
+
+	private void resize() {
+
+		final int[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(oldKeys.length * 2);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EpochDayHashing.EMPTY) {
+				int slot = EpochDayHashing.slot(oldKeys[i], mask);
+				while (keys[slot] != EpochDayHashing.EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+
+	private void allocate(final int capacity) {
+
+		keys = new int[capacity];
+		Arrays.fill(keys, EpochDayHashing.EMPTY);
+		values = new Object[capacity];
+		mask = capacity - 1;
+	}
+}
@@ -0,0 +1,182 @@
+package date.collection;
+
+import date.model.Date;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of dates, held as (primitive) epoch days, see Date.getEpochDay
+ * <p>
+ * nb: Not thread safe.
+ */
+public final class DateSet {
+
+	private int[] keys;
+	private int mask;
+	private int size;
+
+
+	public DateSet() {
+		this(DateMap.DEFAULT_CAPACITY);
+	}
+
+
+	/**
+	 * @param expectedSize count of dates the set can hold before it is resized
+	 */
+	public DateSet(final int expectedSize) {
+
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size cannot be negative, was " + expectedSize);
+		}
+		allocate(EpochDayHashing.tableSizeFor(expectedSize));
+	}
+
+
+	public boolean add(final Date date) {
+
+		return add(date.getEpochDay());
+	}
+
+
+	/**
+	 * @param epochDay date to be added, see Date.getEpochDay
+	 * @return true, if the set did not already contain the date
+	 * @throws IllegalArgumentException if the epoch day is not a date in the full year range, 0001 - 9999
+	 */
+	public boolean add(final int epochDay) throws IllegalArgumentException {
+
+		EpochDayHashing.validateKey(epochDay);
+		int slot = EpochDayHashing.slot(epochDay, mask);
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			if (keys[slot] == epochDay) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		keys[slot] = epochDay;
+		if (++size > EpochDayHashing.maxSize(keys.length)) {
+			resize();
+		}
+		return true;
+	}
+
+
+	public boolean contains(final Date date) {
+
+		return contains(date.getEpochDay());
+	}
+
+
+	public boolean contains(final int epochDay) {
+
+		return find(epochDay) >= 0;
+	}
+
+
+	public boolean remove(final Date date) {
+
+		return remove(date.getEpochDay());
+	}
+
+
+	/**
+	 * @param epochDay date to be removed, see Date.getEpochDay
+	 * @return true, if the set contained the date
+	 */
+	public boolean remove(final int epochDay) {
+
+		final int removedSlot = find(epochDay);
+		if (removedSlot < 0) {
+			return false;
+		}
+
+		//Shift any following entries in the same probe sequence back, so that no tombstones are needed
+		int gap = removedSlot;
+		int slot = (gap + 1) & mask;
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			final int home = EpochDayHashing.slot(keys[slot], mask);
+			if (EpochDayHashing.canMoveTo(gap, home, slot, mask)) {
+				keys[gap] = keys[slot];
+				gap = slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[gap] = EpochDayHashing.EMPTY;
+		size--;
+		return true;
+	}
+
+
+	public int size() {
+
+		return size;
+	}
+
+
+	public boolean isEmpty() {
+
+		return size == 0;
+	}
+
+
+	public void clear() {
+
+		Arrays.fill(keys, EpochDayHashing.EMPTY);
+		size = 0;
+	}
+
+
+	/**
+	 * @return the epoch days in the set, in no particular order
+	 */
+	public int[] epochDays() {
+
+		final int[] epochDays = new int[size];
+		int i = 0;
+		for (int key : keys) {
+			if (key != EpochDayHashing.EMPTY) {
+				epochDays[i++] = key;
+			}
+		}
+		return epochDays;
+	}
+
+
+	private int find(final int epochDay) {
+
+		int slot = EpochDayHashing.slot(epochDay, mask);
+		while (keys[slot] != EpochDayHashing.EMPTY) {
+			if (keys[slot] == epochDay) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+
+	private void resize() {
+
+		final int[] oldKeys = keys;
+		allocate(oldKeys.length * 2);
+		for (int key : oldKeys) {
+			if (key != EpochDayHashing.EMPTY) {
+				int slot = EpochDayHashing.slot(key, mask);
+				while (keys[slot] != EpochDayHashing.EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+			}
+		}
+	}
+
+
+	private void allocate(final int capacity) {
+
+		keys = new int[capacity];
+		Arrays.fill(keys, EpochDayHashing.EMPTY);
+		mask = capacity - 1;
+	}
+}
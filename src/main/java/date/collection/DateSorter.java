@@ -0,0 +1,185 @@
+package date.collection;
+
+import date.annotations.VisibleForTesting;
+import date.model.Date;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Sorts large collections of dates, without calling Date.compareTo.
+ * <p>
+ * The epoch day of each date is read once, into an int[] of keys, then the keys, (and the dates alongside them),
+ * are sorted with a parallel LSD radix sort, in 11 bit digits. Keys are offset by the earliest day, so
+ * the default year range, (1900 - 2010, i.e. ~40,000 days), only needs 2 passes. i.e. the sort is linear in the
+ * count of dates.
+ * <p>
+ * The sort is stable, equal dates stay in their original order.
+ */
+public final class DateSorter {
+
+	private static final int DIGIT_BITS = 11;
+	private static final int RADIX = 1 << DIGIT_BITS;
+	private static final int DIGIT_MASK = RADIX - 1;
+
+	/**
+	 * Min count of dates per chunk, below this the histograms are built on the calling thread
+	 */
+	@VisibleForTesting
+	static final int MIN_CHUNK_SIZE = 1 << 14;
+
+
+	private DateSorter() {
+	}
+
+
+	/**
+	 * Sorts the dates into ascending order, in place
+	 *
+	 * @param dates dates to be sorted, must not contain nulls
+	 */
+	public static void sort(final Date[] dates) {
+
+		sortByEpochDay(toEpochDays(dates), dates);
+	}
+
+
+	/**
+	 * Sorts the dates into ascending order, in place, the same as Collections.sort
+	 *
+	 * @param dates dates to be sorted, must not contain nulls
+	 */
+	public static void sort(final List<Date> dates) {
+
+		final Date[] sorted = dates.toArray(new Date[dates.size()]);
+		sort(sorted);
+		final ListIterator<Date> it = dates.listIterator();
+		for (Date date : sorted) {
+			it.next();
+			it.set(date);
+		}
+	}
+
+
+	/**
+	 * Sorts the keys into ascending order, moving the item at the same index along with each key
+	 *
+	 * @param keys  sort keys, e.g. epoch days
+	 * @param items items to be sorted, at the same index as their key
+	 */
+	@VisibleForTesting
+	static <T> void sortByEpochDay(final int[] keys, final T[] items) {
+
+		final int size = keys.length;
+		if (size < 2) {
+			return;
+		}
+
+		int min = keys[0];
+		int max = keys[0];
+		for (int key : keys) {
+			min = Math.min(min, key);
+			max = Math.max(max, key);
+		}
+
+		//Offset the keys, so they are unsigned, and only as wide as the span of the days
+		for (int i = 0; i < size; i++) {
+			keys[i] -= min;
+		}
+		final int keyBits = Integer.SIZE - Integer.numberOfLeadingZeros(max - min);
+		final int chunkCount = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), size / MIN_CHUNK_SIZE));
+
+		int[] keysIn = keys;
+		T[] itemsIn = items;
+		int[] keysOut = new int[size];
+		T[] itemsOut = items.clone();
+		for (int shift = 0; shift < keyBits; shift += DIGIT_BITS) {
+			radixPass(keysIn, itemsIn, keysOut, itemsOut, shift, chunkCount);
+
+			final int[] keysSwap = keysIn;
+			keysIn = keysOut;
+			keysOut = keysSwap;
+			final T[] itemsSwap = itemsIn;
+			itemsIn = itemsOut;
+			itemsOut = itemsSwap;
+		}
+
+		if (itemsIn != items) {
+			System.arraycopy(itemsIn, 0, items, 0, size);
+			System.arraycopy(keysIn, 0, keys, 0, size);
+		}
+		for (int i = 0; i < size; i++) {
+			keys[i] += min;
+		}
+	}
+
+
+	/**
+	 * Stable counting sort, of the keys and items, by the digit at the given shift.
+	 * <p>
+	 * Each chunk of the input builds its own histogram, the histograms are then turned into the
+	 * output offsets for each (digit, chunk), so the chunks can be scattered without any contention.
+	 */
+	private static <T> void radixPass(final int[] keysIn, final T[] itemsIn, final int[] keysOut, final T[] itemsOut,
+	                                  final int shift, final int chunkCount) {
+
+		final int size = keysIn.length;
+		final int[][] histograms = new int[chunkCount][RADIX];
+
+		forEachChunk(chunkCount, chunk -> {
+			final int[] histogram = histograms[chunk];
+			final int end = chunkStart(chunk + 1, chunkCount, size);
+			for (int i = chunkStart(chunk, chunkCount, size); i < end; i++) {
+				histogram[(keysIn[i] >>> shift) & DIGIT_MASK]++;
+			}
+		});
+
+		int offset = 0;
+		for (int digit = 0; digit < RADIX; digit++) {
+			for (int chunk = 0; chunk < chunkCount; chunk++) {
+				final int count = histograms[chunk][digit];
+				histograms[chunk][digit] = offset;
+				offset += count;
+			}
+		}
+
+		forEachChunk(chunkCount, chunk -> {
+			final int[] offsets = histograms[chunk];
+			final int end = chunkStart(chunk + 1, chunkCount, size);
+			for (int i = chunkStart(chunk, chunkCount, size); i < end; i++) {
+				final int position = offsets[(keysIn[i] >>> shift) & DIGIT_MASK]++;
+				keysOut[position] = keysIn[i];
+				itemsOut[position] = itemsIn[i];
+			}
+		});
+	}
+
+
+	private static void forEachChunk(final int chunkCount, final IntConsumer task) {
+
+		if (chunkCount == 1) {
+			task.accept(0);
+		} else {
+			IntStream.range(0, chunkCount).parallel().forEach(task);
+		}
+	}
+
+
+	private static int chunkStart(final int chunk, final int chunkCount, final int size) {
+
+		return (int) ((long) size * chunk / chunkCount);
+	}
+
+
+	private static int[] toEpochDays(final Date[] dates) {
+
+		final int[] epochDays = new int[dates.length];
+		for (int i = 0; i < dates.length; i++) {
+			epochDays[i] = dates[i].getEpochDay();
+		}
+		return epochDays;
+	}
+}
@@ -0,0 +1,73 @@
+package date.collection;
+
+/**
+ * Hashing and probing helpers, shared by the open addressing DateMap and DateSet.
+ * Package local.
+ */
+final class EpochDayHashing {
+
+	/**
+	 * Marks an empty slot, not a valid epoch day
+	 */
+	static final int EMPTY = Integer.MIN_VALUE;
+
+	/**
+	 * Tables are kept at most half full, to keep the probe sequences short
+	 */
+	private static final int MAX_LOAD_SHIFT = 1;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * Fibonacci hashing multiplier, spreads consecutive epoch days across the table
+	 */
+	private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+
+	private EpochDayHashing() {
+	}
+
+
+	static int slot(final int epochDay, final int mask) {
+
+		final int hash = epochDay * GOLDEN_RATIO;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+
+	/**
+	 * @return the (power of 2) table size needed to hold the expected count of entries
+	 */
+	static int tableSizeFor(final int expectedSize) {
+
+		final long minCapacity = Math.max(2L, ((long) expectedSize << MAX_LOAD_SHIFT) + 1);
+		if (minCapacity > MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+		return Integer.highestOneBit((int) minCapacity - 1) << 1;
+	}
+
+
+	static int maxSize(final int capacity) {
+
+		return capacity >> MAX_LOAD_SHIFT;
+	}
+
+
+	/**
+	 * Used when removing an entry, an entry at slot, with the given home slot, can be moved back to the gap,
+	 * if the gap lies (cyclically) between its home slot and its current slot.
+	 */
+	static boolean canMoveTo(final int gap, final int home, final int slot, final int mask) {
+
+		return ((slot - home) & mask) >= ((slot - gap) & mask);
+	}
+
+
+	/**
+	 * Keys must be dates in the full year range, (so they can be converted back to Dates), which also rules out EMPTY
+	 */
+	static void validateKey(final int epochDay) {
+
+		EpochDays.validate(epochDay);
+	}
+}
@@ -0,0 +1,40 @@
+package date.collection;
+
+import date.model.Date;
+import date.model.YearRange;
+
+/**
+ * Checks, and converts back to Dates, the epoch days held by the collections, (see Date.getEpochDay).
+ * Package local.
+ * <p>
+ * Any date in the full year range, 0001 - 9999, can be held, not just the default range, 1900 - 2010.
+ */
+final class EpochDays {
+
+	static final String EPOCH_DAY_OUT_OF_RANGE_ERROR = "[%d] is not a valid epoch day, it must be a date in the range %s";
+
+
+	private EpochDays() {
+	}
+
+
+	/**
+	 * @throws IllegalArgumentException if the epoch day is not a date in the full year range
+	 */
+	static void validate(final int epochDay) throws IllegalArgumentException {
+
+		if (!YearRange.FULL.containsEpochDay(epochDay)) {
+			throw new IllegalArgumentException(String.format(EPOCH_DAY_OUT_OF_RANGE_ERROR, epochDay, YearRange.FULL));
+		}
+	}
+
+
+	/**
+	 * @param epochDay date in the full year range, see validate
+	 * @return the Date, the pooled instance for dates in the default range, (see Date.of)
+	 */
+	static Date toDate(final int epochDay) {
+
+		return Date.fromEpochDay(epochDay, YearRange.DEFAULT.containsEpochDay(epochDay) ? YearRange.DEFAULT : YearRange.FULL);
+	}
+}
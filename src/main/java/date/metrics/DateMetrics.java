@@ -0,0 +1,322 @@
+package date.metrics;
+
+import date.annotations.VisibleForTesting;
+import date.model.CalendarTable;
+import date.model.DateError;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics for date parsing and daysBetween, published over JMX, see DateMetricsMXBean
+ * <p>
+ * Metrics are off by default, they are switched on with -Ddate.metrics=true, setRecording(true), or the Enabled
+ * attribute of the MBean. While they are off, the only cost to the parser and daysBetween is the read of a
+ * volatile boolean, see isRecording. While they are on, each call is timed with System.nanoTime, and recorded
+ * in LongAdders, so threads recording at the same time don't contend.
+ * <p>
+ * e.g.
+ * DateMetrics.setRecording(true);
+ * ...
+ * DateMetrics.getInstance().getRejectedCounts();
+ */
+public final class DateMetrics implements DateMetricsMXBean {
+
+	@VisibleForTesting
+	static final String ENABLED_PROPERTY = "date.metrics";
+
+	public static final String OBJECT_NAME = "date:type=DateMetrics";
+
+	private static final DateError[] ERRORS = DateError.values();
+
+	private static final DateMetrics INSTANCE = new DateMetrics();
+
+	private static volatile boolean enabled;
+
+	private final LongAdder parsed = new LongAdder();
+	private final LongAdder[] rejected = new LongAdder[ERRORS.length];
+	private final LatencyHistogram parseLatency = new LatencyHistogram();
+	private final LatencyHistogram daysBetweenLatency = new LatencyHistogram();
+
+	static {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			setRecording(true);
+		}
+	}
+
+
+	private DateMetrics() {
+
+		for (int i = 0; i < rejected.length; i++) {
+			rejected[i] = new LongAdder();
+		}
+	}
+
+
+	public static DateMetrics getInstance() {
+
+		return INSTANCE;
+	}
+
+
+	/**
+	 * Checked by the instrumented code before it starts timing, i.e. the whole cost of the metrics when they are off
+	 *
+	 * @return true, if metrics are being recorded
+	 */
+	public static boolean isRecording() {
+
+		return enabled;
+	}
+
+
+	/**
+	 * Switches the metrics on or off, the MBean is registered the first time they are switched on.
+	 * nb: Counts are kept when the metrics are switched off, see reset
+	 *
+	 * @param on true, to start recording
+	 */
+	public static void setRecording(final boolean on) {
+
+		if (on) {
+			register();
+		}
+		enabled = on;
+	}
+
+
+	/**
+	 * Registers the metrics with the platform MBean server, if they are not already registered
+	 *
+	 * @return the name the MBean is registered under
+	 */
+	public static ObjectName register() {
+
+		final ObjectName name = objectName();
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (!server.isRegistered(name)) {
+				server.registerMBean(INSTANCE, name);
+			}
+		} catch (InstanceAlreadyExistsException e) {
+			//Registered by another thread, in the meantime
+		} catch (JMException e) {
+			throw new IllegalStateException("Unable to register the date metrics as " + OBJECT_NAME, e);
+		}
+		return name;
+	}
+
+
+	/**
+	 * Records the result of a parse, see DateParser.tryParsePacked
+	 *
+	 * @param result packed date, or negative error code, see DateError.fromCode
+	 * @param nanos  time taken to parse the date
+	 */
+	public static void recordParse(final int result, final long nanos) {
+
+		if (result < 0) {
+			INSTANCE.rejected[-result - 1].increment();
+		} else {
+			INSTANCE.parsed.increment();
+		}
+		INSTANCE.parseLatency.record(nanos);
+	}
+
+
+	/**
+	 * @param nanos time taken to calculate the days between 2 dates, see Date.daysBetween
+	 */
+	public static void recordDaysBetween(final long nanos) {
+
+		INSTANCE.daysBetweenLatency.record(nanos);
+	}
+
+
+	@Override
+	public boolean isEnabled() {
+
+		return enabled;
+	}
+
+
+	@Override
+	public void setEnabled(final boolean on) {
+
+		setRecording(on);
+	}
+
+
+	@Override
+	public void reset() {
+
+		parsed.reset();
+		for (LongAdder count : rejected) {
+			count.reset();
+		}
+		parseLatency.reset();
+		daysBetweenLatency.reset();
+	}
+
+
+	@Override
+	public long getParsedCount() {
+
+		return parsed.sum();
+	}
+
+
+	@Override
+	public long getRejectedCount() {
+
+		long count = 0;
+		for (LongAdder errorCount : rejected) {
+			count += errorCount.sum();
+		}
+		return count;
+	}
+
+
+	@Override
+	public Map<String, Long> getRejectedCounts() {
+
+		final Map<String, Long> counts = new LinkedHashMap<>();
+		for (DateError error : ERRORS) {
+			counts.put(error.name(), getRejectedCount(error));
+		}
+		return counts;
+	}
+
+
+	public long getRejectedCount(final DateError error) {
+
+		return rejected[error.ordinal()].sum();
+	}
+
+
+	@Override
+	public long getInvalidFormatCount() {
+
+		return getRejectedCount(DateError.INVALID_FORMAT);
+	}
+
+
+	@Override
+	public long getInvalidYearCount() {
+
+		return getRejectedCount(DateError.BLANK_YEAR)
+				+ getRejectedCount(DateError.INVALID_YEAR)
+				+ getRejectedCount(DateError.YEAR_NEGATIVE_OR_ZERO)
+				+ getRejectedCount(DateError.YEAR_OUT_OF_RANGE);
+	}
+
+
+	@Override
+	public long getInvalidMonthCount() {
+
+		return getRejectedCount(DateError.INVALID_MONTH);
+	}
+
+
+	@Override
+	public long getInvalidDayCount() {
+
+		return getRejectedCount(DateError.BLANK_DAY)
+				+ getRejectedCount(DateError.DAY_NOT_A_NUMBER)
+				+ getRejectedCount(DateError.DAY_NEGATIVE_OR_ZERO)
+				+ getRejectedCount(DateError.INVALID_DAY_OF_MONTH);
+	}
+
+
+	@Override
+	public long getParseMeanNanos() {
+
+		return parseLatency.getMeanNanos();
+	}
+
+
+	@Override
+	public long getParseP50Nanos() {
+
+		return parseLatency.getPercentileNanos(50);
+	}
+
+
+	@Override
+	public long getParseP99Nanos() {
+
+		return parseLatency.getPercentileNanos(99);
+	}
+
+
+	@Override
+	public long getParseMaxNanos() {
+
+		return parseLatency.getMaxNanos();
+	}
+
+
+	@Override
+	public long getDaysBetweenCount() {
+
+		return daysBetweenLatency.getCount();
+	}
+
+
+	@Override
+	public long getDaysBetweenMeanNanos() {
+
+		return daysBetweenLatency.getMeanNanos();
+	}
+
+
+	@Override
+	public long getDaysBetweenP50Nanos() {
+
+		return daysBetweenLatency.getPercentileNanos(50);
+	}
+
+
+	@Override
+	public long getDaysBetweenP99Nanos() {
+
+		return daysBetweenLatency.getPercentileNanos(99);
+	}
+
+
+	@Override
+	public long getDaysBetweenMaxNanos() {
+
+		return daysBetweenLatency.getMaxNanos();
+	}
+
+
+	@Override
+	public long getCalendarTableBuildNanos() {
+
+		return CalendarTable.getBuildNanos();
+	}
+
+
+	@Override
+	public int getCalendarTableFootprintBytes() {
+
+		return CalendarTable.getFootprintBytes();
+	}
+
+
+	private static ObjectName objectName() {
+
+		try {
+			return new ObjectName(OBJECT_NAME);
+		} catch (JMException e) {
+			throw new IllegalStateException("[" + OBJECT_NAME + "] is not a valid MBean name", e);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package date.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface for DateMetrics, registered with the platform MBean server as date:type=DateMetrics
+ * <p>
+ * Latencies are in nanoseconds, percentiles are approximate, see LatencyHistogram
+ */
+public interface DateMetricsMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	/**
+	 * Clears all of the counts and latencies
+	 */
+	void reset();
+
+	long getParsedCount();
+
+	long getRejectedCount();
+
+	/**
+	 * @return count of rejected date strings, by DateError name
+	 */
+	Map<String, Long> getRejectedCounts();
+
+	long getInvalidFormatCount();
+
+	long getInvalidYearCount();
+
+	long getInvalidMonthCount();
+
+	long getInvalidDayCount();
+
+	long getParseMeanNanos();
+
+	long getParseP50Nanos();
+
+	long getParseP99Nanos();
+
+	long getParseMaxNanos();
+
+	long getDaysBetweenCount();
+
+	long getDaysBetweenMeanNanos();
+
+	long getDaysBetweenP50Nanos();
+
+	long getDaysBetweenP99Nanos();
+
+	long getDaysBetweenMaxNanos();
+
+	/**
+	 * @return the time taken to build the calendar table, see CalendarTable
+	 */
+	long getCalendarTableBuildNanos();
+
+	/**
+	 * @return the memory taken by the calendar table, in bytes
+	 */
+	int getCalendarTableFootprintBytes();
+}
@@ -0,0 +1,125 @@
+package date.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of latencies, in nanoseconds, with a bucket for each power of 2.
+ * <p>
+ * Bucket i holds the latencies from 2^(i-1) (inclusive) to 2^i (exclusive), (bucket 0 holds 0), so recording a latency
+ * is a leading zero count and a LongAdder increment. Percentiles are approximate, they are reported as the
+ * upper bound of the bucket they fall in, i.e. to within a factor of 2.
+ */
+public final class LatencyHistogram {
+
+	private static final int BUCKET_COUNT = Long.SIZE;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+
+	public LatencyHistogram() {
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+
+	/**
+	 * @param nanos latency to be recorded, negative latencies, (e.g. from a clock adjustment), are recorded as 0
+	 */
+	public void record(final long nanos) {
+
+		final long latency = Math.max(0, nanos);
+		buckets[bucketFor(latency)].increment();
+		totalNanos.add(latency);
+		maxNanos.accumulate(latency);
+	}
+
+
+	public long getCount() {
+
+		long count = 0;
+		for (LongAdder bucket : buckets) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+
+
+	/**
+	 * @return mean latency, in nanoseconds, 0 if nothing has been recorded
+	 */
+	public long getMeanNanos() {
+
+		final long count = getCount();
+		return count == 0 ? 0 : totalNanos.sum() / count;
+	}
+
+
+	public long getMaxNanos() {
+
+		return maxNanos.get();
+	}
+
+
+	/**
+	 * Approximates the given percentile, as the upper bound of the bucket that holds it
+	 *
+	 * @param percentile percentile, greater than 0, up to 100, e.g. 99.9
+	 * @return the latency, in nanoseconds, 0 if nothing has been recorded
+	 */
+	public long getPercentileNanos(final double percentile) {
+
+		if (percentile <= 0 || percentile > 100) {
+			throw new IllegalArgumentException("The percentile must be greater than 0, and no more than 100, was " + percentile);
+		}
+
+		final long[] counts = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = buckets[i].sum();
+			count += counts[i];
+		}
+		if (count == 0) {
+			return 0;
+		}
+
+		final long rank = (long) Math.ceil(count * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(upperBound(i), getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+
+	public void reset() {
+
+		for (LongAdder bucket : buckets) {
+			bucket.reset();
+		}
+		totalNanos.reset();
+		maxNanos.reset();
+	}
+
+
+	static int bucketFor(final long nanos) {
+
+		return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+	}
+
+
+	/**
+	 * @return the largest latency held in the given bucket
+	 */
+	static long upperBound(final int bucket) {
+
+		return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+}
@@ -0,0 +1,176 @@
+package date.model;
+
+import date.annotations.VisibleForTesting;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable calendar of business days, i.e. days that are not on a weekend, or a holiday.
+ * <p>
+ * Every day in the year range is a bit, indexed by epoch day, (see Date.getEpochDay), set for a business day.
+ * Each 64 day word also holds the count of business days before it, so counting the business days
+ * between 2 dates is 2 lookups and 2 popcounts, i.e. O(1), rather than a walk over each day.
+ * <p>
+ * e.g.
+ * BusinessCalendar calendar = new BusinessCalendar(Arrays.asList(new Date("25 12 2000"), new Date("26 12 2000")));
+ * calendar.businessDaysBetween(new Date("22 12 2000"), new Date("29 12 2000")) = 3
+ */
+public final class BusinessCalendar {
+
+	@VisibleForTesting
+	static final String DATE_OUTSIDE_CALENDAR_ERROR = "The date provided, [%s], is not in the calendar range %s.";
+
+	private static final int WORD_SHIFT = 6;
+	private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+
+	private final YearRange yearRange;
+	private final int firstEpochDay;
+
+	/**
+	 * Count of days in the calendar, the offset of the day after its last day
+	 */
+	private final int dayCount;
+	private final Set<DayOfWeek> weekend;
+
+	/**
+	 * Business day bits, bit (epochDay - firstEpochDay)
+	 */
+	private final long[] businessDays;
+
+	/**
+	 * Count of business days before each word
+	 */
+	private final int[] businessDaysBeforeWord;
+
+
+	/**
+	 * Calendar for the default year range, with a SATURDAY and SUNDAY weekend
+	 *
+	 * @param holidays dates that are not business days
+	 */
+	public BusinessCalendar(final Collection<Date> holidays) {
+
+		this(YearRange.DEFAULT, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+	}
+
+
+	/**
+	 * @param yearRange range of the calendar, dates outside the range are rejected
+	 * @param weekend   days of the week that are not business days
+	 * @param holidays  dates that are not business days
+	 * @throws IllegalArgumentException if a holiday is outside the year range
+	 */
+	public BusinessCalendar(final YearRange yearRange, final Set<DayOfWeek> weekend, final Collection<Date> holidays) throws IllegalArgumentException {
+
+		this.yearRange = yearRange;
+		this.firstEpochDay = EpochDay.daysBeforeYear(yearRange.getMinYear());
+		this.weekend = weekend.isEmpty() ? Collections.<DayOfWeek>emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(weekend));
+
+		this.dayCount = EpochDay.daysBeforeYear(yearRange.getMaxYear() + 1) - firstEpochDay;
+		//The extra word always has room for the day after the range, see endOffsetOf
+		final int wordCount = (dayCount >>> WORD_SHIFT) + 1;
+		this.businessDays = new long[wordCount];
+		for (int day = 0; day < dayCount; day++) {
+			if (!weekend.contains(DayOfWeek.fromEpochDay(firstEpochDay + day))) {
+				businessDays[day >>> WORD_SHIFT] |= 1L << day;
+			}
+		}
+		for (Date holiday : holidays) {
+			final int day = offsetOf(holiday);
+			businessDays[day >>> WORD_SHIFT] &= ~(1L << day);
+		}
+
+		this.businessDaysBeforeWord = new int[wordCount];
+		int count = 0;
+		for (int word = 0; word < wordCount; word++) {
+			businessDaysBeforeWord[word] = count;
+			count += Long.bitCount(businessDays[word]);
+		}
+	}
+
+
+	/**
+	 * @return true, if the date is not on a weekend, or a holiday
+	 * @throws IllegalArgumentException if the date is outside the calendar's year range
+	 */
+	public boolean isBusinessDay(final Date date) throws IllegalArgumentException {
+
+		final int day = offsetOf(date);
+		return (businessDays[day >>> WORD_SHIFT] & (1L << day)) != 0;
+	}
+
+
+	/**
+	 * Returns the count of business days from the start date, (inclusive), to the end date, (exclusive).
+	 * i.e. the same days as are counted by Date.daysBetween
+	 * <p>
+	 * The end date can be the day after the calendar's year range, e.g. 01 01 2011 for the default range,
+	 * so that the last day of the range can be counted.
+	 *
+	 * @param startDate first day to be counted
+	 * @param endDate   day after the last day to be counted
+	 * @return the count of business days
+	 * @throws IllegalArgumentException if the end date is null, or before the start date, (as per Date.daysBetween),
+	 *                                  or the start date is outside the calendar's year range,
+	 *                                  or the end date is outside the range, and not the day after it
+	 */
+	public long businessDaysBetween(final Date startDate, final Date endDate) throws IllegalArgumentException {
+
+		if (endDate == null) {
+			throw new IllegalArgumentException(Date.END_DATE_IS_NULL_ERROR);
+		}
+		if (startDate.compareTo(endDate) > 0) {
+			throw new IllegalArgumentException(Date.START_DATE_GREATER_THAN_END_DATE_ERROR);
+		}
+		return businessDaysBefore(endOffsetOf(endDate)) - businessDaysBefore(offsetOf(startDate));
+	}
+
+
+	public YearRange getYearRange() {
+
+		return yearRange;
+	}
+
+
+	public Set<DayOfWeek> getWeekend() {
+
+		return weekend;
+	}
+
+
+	/**
+	 * @return the count of business days in the calendar, before the given offset
+	 */
+	private int businessDaysBefore(final int day) {
+
+		final int word = day >>> WORD_SHIFT;
+		final long before = (1L << (day & WORD_MASK)) - 1;
+		return businessDaysBeforeWord[word] + Long.bitCount(businessDays[word] & before);
+	}
+
+
+	/**
+	 * @return the count of days from the start of the calendar, to the date
+	 */
+	private int offsetOf(final Date date) {
+
+		final int epochDay = date.getEpochDay();
+		if (!yearRange.containsEpochDay(epochDay)) {
+			throw new IllegalArgumentException(String.format(DATE_OUTSIDE_CALENDAR_ERROR, date, yearRange));
+		}
+		return epochDay - firstEpochDay;
+	}
+
+
+	/**
+	 * @return the count of days from the start of the calendar, to the end date, which can be the day after the calendar
+	 */
+	private int endOffsetOf(final Date endDate) {
+
+		final int day = endDate.getEpochDay() - firstEpochDay;
+		return day == dayCount ? day : offsetOf(endDate);
+	}
+}
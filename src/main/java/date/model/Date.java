@@ -1,8 +1,10 @@
 package date.model;
 
 import date.annotations.VisibleForTesting;
+import date.metrics.DateMetrics;
 
-import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static date.model.Period.DAY;
 
@@ -12,7 +14,10 @@ import static date.model.Period.DAY;
  * Date: 24/11/2014
  * Time: 9:43 PM
  * <p>
- * Date class, represents dates by using seconds since the epoch. (In this case year 0)
+ * Date class, represents dates by using days (or seconds) since the epoch. (In this case year 0)
+ * <p>
+ * The day, month and year are held in a single int, packed in the format YYYYMMDD, (see PackedDates).
+ * The Year, Month and DayOfMonth classes are only used to validate the fields, they are not kept.
  */
 public final class Date implements Comparable<Date> {
 
@@ -25,24 +30,61 @@ public final class Date implements Comparable<Date> {
 	@VisibleForTesting
 	static final String START_DATE_GREATER_THAN_END_DATE_ERROR = "The End Date cannot be before the Start Date";
 
+	@VisibleForTesting
+	static final String PERIOD_NOT_IN_WHOLE_DAYS_ERROR = "The step, [%s], must be a whole number of days";
+
+	@VisibleForTesting
+	static final String EPOCH_DAY_OUT_OF_RANGE_ERROR = "The epoch day provided, [%s], is not a date in the range %s.";
+
+	private static final int DATE_STRING_LENGTH = 10;
+
 	private static final int LESS_THAN = -1;
 	private static final int GREATER_THAN = 1;
 
-	private final Year year;
-	private final Month month;
-	private final DayOfMonth dayOfMonth;
+	/**
+	 * Count of elements processed per iteration, by the bulk daysBetween loops
+	 */
+	private static final int UNROLL = 4;
+
+	/**
+	 * Count of days from the epoch, to the end of the latest supported year.
+	 * No date can be more than this many days from another.
+	 */
+	private static final long MAX_DAYS = EpochDay.daysBeforeYear(YearRange.MAX_SUPPORTED_YEAR + 1);
+
+	/**
+	 * Validated day, month and year, in the format YYYYMMDD
+	 */
+	private final int packedDate;
+
+	/**
+	 * Range the year was validated against, shared, see YearRange
+	 */
+	private final YearRange yearRange;
 
 
 	/**
 	 * Call to this.constructor must appear on the first line.
-	 * parses dateStr into year, month, dayofmonth objects, before
-	 * invoking chained constructor for (Year, Month, DayOfMonth)
+	 * parses dateStr, in a single pass, (see DateParser) before
+	 * invoking the chained constructor for the packed date fields
 	 *
 	 * @param dateStr date string, in the format "DD MM YYYY", to be used to construct the Date.
 	 */
 	public Date(final String dateStr) {
 
-		this(getYear(dateStr), getMonth(dateStr), getDay(dateStr));
+		this(dateStr, YearRange.DEFAULT);
+	}
+
+
+	/**
+	 * Parses dateStr, with a year in the given range, e.g. new Date("01 01 0001", YearRange.FULL)
+	 *
+	 * @param dateStr   date string, in the format "DD MM YYYY", to be used to construct the Date.
+	 * @param yearRange range of valid years
+	 */
+	public Date(final String dateStr, final YearRange yearRange) {
+
+		this(DateParser.parseFields(dateStr, 0, dateStr.length(), yearRange), yearRange);
 	}
 
 
@@ -55,83 +97,213 @@ public final class Date implements Comparable<Date> {
 	 */
 	public Date(final Year year, final Month month, final DayOfMonth dayOfMonth) {
 
-		this.year = year;
-		this.month = month;
-		this.dayOfMonth = dayOfMonth;
+		this.packedDate = PackedDates.pack(year.getYear(), month.getAsNumber(), dayOfMonth.getDayOfMonthAsNumber());
+		this.yearRange = year.getRange();
 	}
 
 
 	/**
-	 * Retrieve the Year parameter from a Date String in the format
-	 * "DD MM YYYY"
+	 * Constructs the Date from the fields packed by the DateParser, (see PackedDates).
+	 * nb: The fields are expected to have been validated by the caller.
 	 *
-	 * @param dateStr date string to be parsed
-	 *                <p>
-	 *                return the Year parameter from the given date string
+	 * @param packedDate day, month and year, packed into an int, in the format YYYYMMDD
+	 * @param yearRange  range the year was validated against
 	 */
-	private static Year getYear(final String dateStr) {
+	Date(final int packedDate, final YearRange yearRange) {
 
-		validateDateString(dateStr);
-		String[] dateParams = dateStr.split("\\s");
-		Year year = new Year(dateParams[2]);
-		return year;
+		this.packedDate = packedDate;
+		this.yearRange = yearRange;
 	}
 
 
 	/**
-	 * Validate that the given Date String is in the format
-	 * "DD MM YYYY"
+	 * Returns the canonical Date for the given day, month and year.
+	 * <p>
+	 * Dates in the default year range are interned, (see DatePool), so the same instance is returned
+	 * for the same date, and these dates can be compared by reference.
 	 *
-	 * @param dateStr date string to be validated
-	 * @throws java.lang.IllegalArgumentException If the date string format is invalid
+	 * @param dayOfMonth day of the month, 1 - 31
+	 * @param month      month number, 1 - 12
+	 * @param year       year, within the default year range
+	 * @return the Date
+	 * @throws IllegalArgumentException if the date is not valid, (with the same message as the Year, Month and DayOfMonth constructors)
 	 */
-	private static void validateDateString(final String dateStr) throws IllegalArgumentException {
+	public static Date of(final int dayOfMonth, final int month, final int year) throws IllegalArgumentException {
 
-		String[] dateParams = dateStr.split("\\s");
-		int expectedParamLength = 3;
+		return of(dayOfMonth, month, year, YearRange.DEFAULT);
+	}
 
-		String errorMsg = null;
-		if (dateParams.length != expectedParamLength) {
-			errorMsg = String.format(DATE_STRING_HAS_INVALID_FORMAT_ERROR, dateStr);
+
+	/**
+	 * Same as Date.of(dayOfMonth, month, year), with a year in the given range.
+	 * Only dates in the default range are canonical instances.
+	 *
+	 * @param yearRange range of valid years
+	 * @throws IllegalArgumentException if the date is not valid, (with the same message as the Year, Month and DayOfMonth constructors)
+	 */
+	public static Date of(final int dayOfMonth, final int month, final int year, final YearRange yearRange) throws IllegalArgumentException {
+
+		if (!PackedDates.isValid(year, month, dayOfMonth, yearRange)) {
+			//Construct the fields, in the usual order, so that the same exception is thrown as the constructors
+			final Year invalidYear = new Year(year, yearRange);
+			final Month invalidMonth = Month.fromIndex(month);
+			return new Date(invalidYear, invalidMonth, new DayOfMonth(dayOfMonth, invalidMonth, invalidYear));
 		}
+		return valueOf(PackedDates.pack(year, month, dayOfMonth), yearRange);
+	}
 
-		if (errorMsg != null) {
-			throw new IllegalArgumentException(errorMsg);
+
+	/**
+	 * Same as new Date(text), but returns the canonical Date instance, see Date.of
+	 *
+	 * @param text date string, in the format "DD MM YYYY"
+	 * @return the Date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public static Date parse(final CharSequence text) throws IllegalArgumentException {
+
+		return DatePool.get(DateParser.parseFields(text, 0, text.length(), YearRange.DEFAULT));
+	}
+
+
+	/**
+	 * Same as new Date(text, yearRange), but returns the canonical Date instance for dates in the default range
+	 *
+	 * @param text      date string, in the format "DD MM YYYY"
+	 * @param yearRange range of valid years
+	 * @return the Date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public static Date parse(final CharSequence text, final YearRange yearRange) throws IllegalArgumentException {
+
+		return valueOf(DateParser.parseFields(text, 0, text.length(), yearRange), yearRange);
+	}
+
+
+	/**
+	 * @param packedDate (valid) date, in the format YYYYMMDD
+	 * @param yearRange  range the year was validated against
+	 * @return the pooled Date, for the default range, else a new Date
+	 */
+	static Date valueOf(final int packedDate, final YearRange yearRange) {
+
+		return yearRange == YearRange.DEFAULT ? DatePool.get(packedDate) : new Date(packedDate, yearRange);
+	}
+
+
+	/**
+	 * Converts a count of days since the epoch, (see getEpochDay), back into a Date, in constant time.
+	 * <p>
+	 * e.g. Date.fromEpochDay(693961) = 01 01 1900
+	 *
+	 * @param epochDay count of days since the epoch
+	 * @return the Date, (the canonical instance, see Date.of)
+	 * @throws IllegalArgumentException if the epoch day is not a date in the default year range
+	 */
+	public static Date fromEpochDay(final long epochDay) throws IllegalArgumentException {
+
+		return fromEpochDay(epochDay, YearRange.DEFAULT);
+	}
+
+
+	/**
+	 * Same as Date.fromEpochDay(epochDay), with a year in the given range
+	 *
+	 * @param epochDay  count of days since the epoch
+	 * @param yearRange range of valid years
+	 * @return the Date
+	 * @throws IllegalArgumentException if the epoch day is not a date in the year range
+	 */
+	public static Date fromEpochDay(final long epochDay, final YearRange yearRange) throws IllegalArgumentException {
+
+		if (!yearRange.containsEpochDay(epochDay)) {
+			throw new IllegalArgumentException(String.format(EPOCH_DAY_OUT_OF_RANGE_ERROR, epochDay, yearRange));
 		}
+		return valueOf(EpochDay.toPackedDate((int) epochDay), yearRange);
 	}
 
 
 	/**
-	 * Retrieve the Day parameter from a Date String in the format:
+	 * Returns the date the given count of days after this date, in constant time, (no stepping through the months)
 	 * <p>
-	 * "DD MM YYYY"
+	 * e.g. new Date("28 02 2000").plusDays(2) = 01 03 2000
 	 *
-	 * @param dateStr date string to be parsed
-	 *                <p>
-	 *                return the DayOfMonth parameter from the given date string
+	 * @param days count of days to add, may be negative
+	 * @return the Date, validated against the same year range as this date
+	 * @throws IllegalArgumentException if the resulting date is outside the year range
 	 */
-	private static DayOfMonth getDay(final String dateStr) {
+	public Date plusDays(final long days) throws IllegalArgumentException {
 
-		String[] dateParams = dateStr.split("\\s");
-		Month month = getMonth(dateStr);
-		Year year = getYear(dateStr);
+		return fromEpochDay(addDays(getEpochDay(), days), yearRange);
+	}
+
+
+	/**
+	 * Returns the date the given count of days before this date, see plusDays
+	 *
+	 * @param days count of days to subtract, may be negative
+	 * @return the Date, validated against the same year range as this date
+	 * @throws IllegalArgumentException if the resulting date is outside the year range
+	 */
+	public Date minusDays(final long days) throws IllegalArgumentException {
 
-		return new DayOfMonth(dateParams[0], month, year);
+		return fromEpochDay(addDays(getEpochDay(), days == Long.MIN_VALUE ? Long.MAX_VALUE : -days), yearRange);
 	}
 
 
 	/**
-	 * Retrieve the Month parameter from a Date String in the format:
+	 * Returns a lazy, ordered stream of each date from start (inclusive) to end (exclusive).
 	 * <p>
-	 * "DD MM YYYY"
+	 * The dates are only created as the stream is consumed, and the stream splits evenly, (by epoch day),
+	 * when run in parallel. e.g. Date.range(start, end).parallel().filter(...).count()
+	 *
+	 * @param start first date in the stream
+	 * @param end   date after the last date in the stream, the stream is empty if end is not after start
+	 * @return the stream of dates, validated against the year range of the start date
+	 */
+	public static Stream<Date> range(final Date start, final Date end) {
+
+		return range(start, end, DAY);
+	}
+
+
+	/**
+	 * Same as Date.range(start, end), with a step between each date, e.g. Period.WEEK
 	 *
-	 * @param dateStr date string to be parsed
-	 * @return return the month parameter from the given date string
+	 * @param start first date in the stream
+	 * @param end   date after the last date in the stream, the stream is empty if end is not after start
+	 * @param step  period between each date in the stream, must be a whole number of days
+	 * @return the stream of dates, validated against the year range of the start date
+	 * @throws IllegalArgumentException if the step is not a whole number of days,
+	 *                                  or the dates are outside the year range of the start date
+	 */
+	public static Stream<Date> range(final Date start, final Date end, final Period step) throws IllegalArgumentException {
+
+		if (step.getSeconds() < DAY.getSeconds() || step.getSeconds() % DAY.getSeconds() != 0) {
+			throw new IllegalArgumentException(String.format(PERIOD_NOT_IN_WHOLE_DAYS_ERROR, step));
+		}
+		final int stepDays = (int) (step.getSeconds() / DAY.getSeconds());
+		final int firstEpochDay = start.getEpochDay();
+		final long days = Math.max(0, (long) end.getEpochDay() - firstEpochDay);
+		final long count = (days + stepDays - 1) / stepDays;
+
+		if (count > 0) {
+			final long lastEpochDay = firstEpochDay + (count - 1) * stepDays;
+			if (!start.yearRange.containsEpochDay(lastEpochDay)) {
+				throw new IllegalArgumentException(String.format(EPOCH_DAY_OUT_OF_RANGE_ERROR, lastEpochDay, start.yearRange));
+			}
+		}
+		return StreamSupport.stream(new DateRangeSpliterator(firstEpochDay, stepDays, start.yearRange, 0, count), false);
+	}
+
+
+	/**
+	 * Adds the days to the epoch day, without overflowing.
+	 * Counts of days wider than any range saturate, so are still rejected by fromEpochDay.
 	 */
-	private static Month getMonth(final String dateStr) {
+	private static long addDays(final int epochDay, final long days) {
 
-		String[] dateParams = dateStr.split("\\s");
-		return Month.fromIndexString(dateParams[1]);
+		return epochDay + Math.max(-MAX_DAYS, Math.min(MAX_DAYS, days));
 	}
 
 
@@ -143,14 +315,28 @@ public final class Date implements Comparable<Date> {
 	@VisibleForTesting
 	long getTotalSecondsSinceEpoch() {
 
-		boolean isLeapYear = year.isLeapYear();
-		long yearsInSeconds = year.getTotalSecondsSinceEpoch();
-		long monthsInSeconds = month.getTotalSecondsBefore(isLeapYear);
-		long daysOfMonthInSeconds = (long) (dayOfMonth.getDayOfMonthAsNumber() * DAY.getSeconds());
+		final int year = getYear();
+		final boolean isLeapYear = Year.isLeapYear(year);
+		long yearsInSeconds = EpochDay.daysBeforeYear(year) * DAY.getSeconds();
+		long monthsInSeconds = getMonth().getTotalSecondsBefore(isLeapYear);
+		long daysOfMonthInSeconds = (long) (getDayOfMonth() * DAY.getSeconds());
 		return yearsInSeconds + monthsInSeconds + daysOfMonthInSeconds;
 	}
 
 
+	/**
+	 * Retrieves the Date, represented as a count of days since the epoch (1st January, year 0)
+	 * <p>
+	 * e.g. new Date("1 1 1900").getEpochDay() = 693961
+	 *
+	 * @return the count of days, from the epoch, to this Date
+	 */
+	public int getEpochDay() {
+
+		return EpochDay.of(getYear(), PackedDates.getMonth(packedDate), getDayOfMonth());
+	}
+
+
 	/**
 	 * Return the count of days between the current endDate and the target endDate
 	 *
@@ -159,11 +345,85 @@ public final class Date implements Comparable<Date> {
 	 */
 	public long daysBetween(final Date endDate) {
 
+		if (!DateMetrics.isRecording()) {
+			return calculateDaysBetween(endDate);
+		}
+		final long startNanos = System.nanoTime();
+		try {
+			return calculateDaysBetween(endDate);
+		} finally {
+			DateMetrics.recordDaysBetween(System.nanoTime() - startNanos);
+		}
+	}
+
+
+	private long calculateDaysBetween(final Date endDate) {
+
 		if (this.equals(endDate)) {
 			return 0;
 		}
 		validateEndDate(endDate);
-		return getSecondsBetween(endDate) / DAY.getSeconds();
+		return (long) endDate.getEpochDay() - this.getEpochDay();
+	}
+
+
+	/**
+	 * Calculates the days between each pair of epoch days, (see getEpochDay), i.e. out[i] = end[i] - start[i]
+	 * <p>
+	 * nb: Unlike daysBetween(Date), the result is negative if the end day is before the start day.
+	 * <p>
+	 * The loop is branch free, and unrolled, so that the JIT can vectorise it.
+	 * Intended for columns of dates, where creating a Date per value is too costly.
+	 *
+	 * @param startEpochDays start days
+	 * @param endEpochDays   end days, at the same index as the start day
+	 * @param out            set to the count of days between each pair
+	 * @throws IllegalArgumentException if the arrays are not the same length
+	 */
+	public static void daysBetween(final int[] startEpochDays, final int[] endEpochDays, final int[] out) throws IllegalArgumentException {
+
+		PackedDates.validateLengths(startEpochDays.length, endEpochDays.length);
+		PackedDates.validateLengths(startEpochDays.length, out.length);
+
+		final int unrolledEnd = out.length & ~(UNROLL - 1);
+		int i = 0;
+		for (; i < unrolledEnd; i += UNROLL) {
+			out[i] = endEpochDays[i] - startEpochDays[i];
+			out[i + 1] = endEpochDays[i + 1] - startEpochDays[i + 1];
+			out[i + 2] = endEpochDays[i + 2] - startEpochDays[i + 2];
+			out[i + 3] = endEpochDays[i + 3] - startEpochDays[i + 3];
+		}
+		for (; i < out.length; i++) {
+			out[i] = endEpochDays[i] - startEpochDays[i];
+		}
+	}
+
+
+	/**
+	 * Calculates the days from a single start day, to each of the end days, i.e. out[i] = end[i] - start
+	 * <p>
+	 * e.g. the age, in days, of a column of dates, on a reporting date.
+	 *
+	 * @param startEpochDay start day, see getEpochDay
+	 * @param endEpochDays  end days
+	 * @param out           set to the count of days between the start day and each end day
+	 * @throws IllegalArgumentException if the arrays are not the same length
+	 */
+	public static void daysBetween(final int startEpochDay, final int[] endEpochDays, final int[] out) throws IllegalArgumentException {
+
+		PackedDates.validateLengths(endEpochDays.length, out.length);
+
+		final int unrolledEnd = out.length & ~(UNROLL - 1);
+		int i = 0;
+		for (; i < unrolledEnd; i += UNROLL) {
+			out[i] = endEpochDays[i] - startEpochDay;
+			out[i + 1] = endEpochDays[i + 1] - startEpochDay;
+			out[i + 2] = endEpochDays[i + 2] - startEpochDay;
+			out[i + 3] = endEpochDays[i + 3] - startEpochDay;
+		}
+		for (; i < out.length; i++) {
+			out[i] = endEpochDays[i] - startEpochDay;
+		}
 	}
 
 
@@ -191,44 +451,45 @@ public final class Date implements Comparable<Date> {
 	}
 
 
-	/**
-	 * Retrieves the difference between this Date and the endDate
-	 *
-	 * @param endDate Date to compare difference with
-	 * @return The difference, in seconds between this date, and the given end date
-	 */
-	private long getSecondsBetween(final Date endDate) {
+	public int getYear() {
+		return PackedDates.getYear(packedDate);
+	}
 
-		long endDateTotalSeconds = endDate.getTotalSecondsSinceEpoch();
-		long startDateTotalSeconds = this.getTotalSecondsSinceEpoch();
 
-		return endDateTotalSeconds - startDateTotalSeconds;
+	public Month getMonth() {
+
+		return Month.fromIndex(PackedDates.getMonth(packedDate));
 	}
 
 
-	public int getYear() {
-		return year.getYear();
-//		return year;
+	public int getDayOfMonth() {
+
+		return PackedDates.getDayOfMonth(packedDate);
 	}
 
 
-	public Month getMonth() {
+	/**
+	 * @return the day of the week this date falls on
+	 */
+	public DayOfWeek getDayOfWeek() {
 
-		return month;
+		return DayOfWeek.fromEpochDay(getEpochDay());
 	}
 
 
-	public int getDayOfMonth() {
+	/**
+	 * @return the range this date's year was validated against
+	 */
+	public YearRange getYearRange() {
 
-		return dayOfMonth.getDayOfMonthAsNumber();
+		return yearRange;
 	}
 
 
 	/**
 	 * Compares the current date to another date.
 	 * <p>
-	 * nb: Can't just do: return thisTotalSeconds - thatTotalSeconds;
-	 * as the returned int may overflow.
+	 * nb: Packed dates (YYYYMMDD) sort in date order, so are compared directly, without calculating the epoch days.
 	 *
 	 * @param that the Date object to compare
 	 * @return -1 (Less than), 0 (Equal), 1 (Greater than)
@@ -236,23 +497,12 @@ public final class Date implements Comparable<Date> {
 	@Override
 	public int compareTo(final Date that) {
 
-		long thisTotalSeconds = this.getTotalSecondsSinceEpoch();
-		long thatTotalSeconds = that.getTotalSecondsSinceEpoch();
-
-		if (thisTotalSeconds < thatTotalSeconds) {
-			return LESS_THAN;
-		}
-		if (thisTotalSeconds == thatTotalSeconds) {
-			return 0;
-		}
-		return GREATER_THAN;
+		return PackedDates.compare(this.packedDate, that.packedDate);
 	}
 
 
 	/**
-	 * Generated Equals and HashCode
-	 * <p>
-	 * Would use the new Objects.equal and Objects.hashCode for these, if Java 7 or above.
+	 * Dates are equal if they have the same day, month and year
 	 *
 	 * @param o object for comparison
 	 * @return True, if the Objects are equal
@@ -263,20 +513,20 @@ public final class Date implements Comparable<Date> {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 
-		Date date = (Date) o;
-
-		if (!dayOfMonth.equals(date.dayOfMonth)) return false;
-		if (month != date.month) return false;
-		if (!year.equals(date.year)) return false;
-
-		return true;
+		return packedDate == ((Date) o).packedDate;
 	}
 
 
+	/**
+	 * The epoch day is unique for each date, (and consistent with equals), so is used as the hash code.
+	 * nb: Objects.hashCode(this) can't be used here, it calls hashCode() again.
+	 *
+	 * @return the hash code, i.e. the epoch day
+	 */
 	@Override
 	public int hashCode() {
 
-		return Objects.hashCode(this);
+		return getEpochDay();
 	}
 
 
@@ -288,9 +538,40 @@ public final class Date implements Comparable<Date> {
 	@Override
 	public String toString() {
 
-		return String.format("%02d %02d %04d",
-				dayOfMonth.getDayOfMonthAsNumber(),
-				month.getAsNumber(),
-				year.getYear());
+		return appendTo(new StringBuilder(DATE_STRING_LENGTH)).toString();
+	}
+
+
+	/**
+	 * Appends a representation of this date, in the format "DD MM YYYY", to the given builder.
+	 * <p>
+	 * Same as toString, without the overhead of String.format, or an intermediate String.
+	 *
+	 * @param sb builder the date is appended to
+	 * @return the given builder
+	 */
+	public StringBuilder appendTo(final StringBuilder sb) {
+
+		appendZeroPadded(sb, getDayOfMonth(), 10);
+		sb.append(' ');
+		appendZeroPadded(sb, PackedDates.getMonth(packedDate), 10);
+		sb.append(' ');
+		appendZeroPadded(sb, getYear(), 1000);
+		return sb;
+	}
+
+
+	/**
+	 * Same as the %0nd format, e.g. appendZeroPadded(sb, 7, 1000) appends "0007"
+	 *
+	 * @param value          (positive) value to be appended
+	 * @param paddedMagnitude the magnitude of the widest value, that needs no padding e.g. 10 for 2 digits
+	 */
+	private static void appendZeroPadded(final StringBuilder sb, final int value, final int paddedMagnitude) {
+
+		for (int magnitude = paddedMagnitude; magnitude > 1 && value < magnitude; magnitude /= 10) {
+			sb.append('0');
+		}
+		sb.append(value);
 	}
 }
@@ -0,0 +1,170 @@
+package date.model;
+
+import static date.model.Period.DAY;
+import static date.model.Period.WEEK;
+
+/**
+ * The difference between 2 dates, as days, weeks, calendar months, and as a years/months/days breakdown.
+ * <p>
+ * Everything is calculated once, from the epoch days and the fields of the 2 dates, without iterating
+ * over the months in between. Calendar months are counted the same way as a monthly bill, i.e. a month has passed
+ * once the same day of the month is reached, where the day is clamped to the end of a shorter month, e.g.
+ * <p>
+ * 31 01 2001 to 28 02 2001 = 1 month, 0 days (the 31st is clamped to the 28th of February)
+ * <p>
+ * 31 01 2001 to 01 03 2001 = 1 month, 1 day
+ */
+public final class DateDifference {
+
+	private static final int MONTHS_IN_YEAR = 12;
+
+	private final long totalDays;
+	private final int totalMonths;
+	private final int days;
+
+
+	private DateDifference(final long totalDays, final int totalMonths, final int days) {
+
+		this.totalDays = totalDays;
+		this.totalMonths = totalMonths;
+		this.days = days;
+	}
+
+
+	/**
+	 * Calculates the difference from the start date to the end date
+	 *
+	 * @param startDate earliest date
+	 * @param endDate   latest date
+	 * @return the difference
+	 * @throws IllegalArgumentException if the end date is null, or before the start date, (as per Date.daysBetween)
+	 */
+	public static DateDifference between(final Date startDate, final Date endDate) throws IllegalArgumentException {
+
+		final long totalDays = startDate.daysBetween(endDate);
+
+		final int startYear = startDate.getYear();
+		final int startMonth = startDate.getMonth().getAsNumber();
+		final int startDay = startDate.getDayOfMonth();
+		int totalMonths = (endDate.getYear() - startYear) * MONTHS_IN_YEAR + endDate.getMonth().getAsNumber() - startMonth;
+		if (endDate.getDayOfMonth() < startDay && totalMonths > 0) {
+			//The day of the month has not been reached in the end month, unless the month is too short to hold it
+			final Month endMonth = endDate.getMonth();
+			final boolean clamped = endDate.getDayOfMonth() == endMonth.getDaysInMonth(Year.isLeapYear(endDate.getYear()));
+			if (!clamped) {
+				totalMonths--;
+			}
+		}
+
+		final int monthsEpochDay = epochDayAfterMonths(startYear, startMonth, startDay, totalMonths);
+		return new DateDifference(totalDays, totalMonths, endDate.getEpochDay() - monthsEpochDay);
+	}
+
+
+	/**
+	 * @return the count of days between the dates, the same as Date.daysBetween
+	 */
+	public long getTotalDays() {
+
+		return totalDays;
+	}
+
+
+	/**
+	 * @return the count of whole weeks between the dates
+	 */
+	public long getTotalWeeks() {
+
+		return getTotal(WEEK);
+	}
+
+
+	/**
+	 * @return the count of whole calendar months between the dates
+	 */
+	public int getTotalMonths() {
+
+		return totalMonths;
+	}
+
+
+	/**
+	 * Returns the count of whole periods between the dates, for the fixed length periods, e.g. Period.HOUR,
+	 * nb: Period.YEAR is always 365 days, see getYears for calendar years
+	 *
+	 * @param period period to be counted
+	 * @return the count of whole periods between the dates
+	 */
+	public long getTotal(final Period period) {
+
+		return totalDays * DAY.getSeconds() / period.getSeconds();
+	}
+
+
+	/**
+	 * @return the whole years in the years/months/days breakdown
+	 */
+	public int getYears() {
+
+		return totalMonths / MONTHS_IN_YEAR;
+	}
+
+
+	/**
+	 * @return the months in the years/months/days breakdown, 0 - 11
+	 */
+	public int getMonths() {
+
+		return totalMonths % MONTHS_IN_YEAR;
+	}
+
+
+	/**
+	 * @return the days in the years/months/days breakdown, i.e. the days after the last whole month
+	 */
+	public int getDays() {
+
+		return days;
+	}
+
+
+	@Override
+	public boolean equals(final Object o) {
+
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		final DateDifference that = (DateDifference) o;
+		return totalDays == that.totalDays && totalMonths == that.totalMonths && days == that.days;
+	}
+
+
+	@Override
+	public int hashCode() {
+
+		return 31 * (31 * Long.hashCode(totalDays) + totalMonths) + days;
+	}
+
+
+	/**
+	 * @return the breakdown, e.g. "1 years, 2 months, 3 days (427 days)"
+	 */
+	@Override
+	public String toString() {
+
+		return String.format("%d years, %d months, %d days (%d days)", getYears(), getMonths(), getDays(), totalDays);
+	}
+
+
+	/**
+	 * @return the epoch day, the given count of months after the date, the day is clamped to the length of the month
+	 */
+	private static int epochDayAfterMonths(final int year, final int month, final int dayOfMonth, final int months) {
+
+		final int monthIndex = (month - 1) + months;
+		final int resultYear = year + monthIndex / MONTHS_IN_YEAR;
+		final int resultMonth = monthIndex % MONTHS_IN_YEAR + 1;
+		final int daysInMonth = Month.fromIndex(resultMonth).getDaysInMonth(Year.isLeapYear(resultYear));
+		return EpochDay.of(resultYear, resultMonth, Math.min(dayOfMonth, daysInMonth));
+	}
+}
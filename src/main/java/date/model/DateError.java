@@ -0,0 +1,72 @@
+package date.model;
+
+/**
+ * Reasons a date string can be rejected, one for each of the checks made by the Date, Year, Month and DayOfMonth classes.
+ * <p>
+ * Used by the exception free parse api, (see DateParser.tryParse), so that rejecting a date costs about the
+ * same as accepting one. The error message is only built when a caller asks for it, see DateParseResult.getMessage
+ */
+public enum DateError {
+
+	/** The date string is not in the format DD MM YYYY */
+	INVALID_FORMAT,
+
+	/** The year is blank */
+	BLANK_YEAR,
+
+	/** The year is not a number */
+	INVALID_YEAR,
+
+	/** The year is 0 or less */
+	YEAR_NEGATIVE_OR_ZERO,
+
+	/** The year is outside the supported year range */
+	YEAR_OUT_OF_RANGE,
+
+	/** The month is not a number in the range 1 - 12 */
+	INVALID_MONTH,
+
+	/** The day of the month is blank */
+	BLANK_DAY,
+
+	/** The day of the month is not a number */
+	DAY_NOT_A_NUMBER,
+
+	/** The day of the month is 0 or less */
+	DAY_NEGATIVE_OR_ZERO,
+
+	/** The day of the month is not valid for the month and year, e.g. 29 02 2001 */
+	INVALID_DAY_OF_MONTH;
+
+	private static final DateError[] VALUES = values();
+
+
+	/**
+	 * Retrieves the (negative) code returned by DateParser.tryParsePacked for this error.
+	 *
+	 * @return the error code, always less than 0
+	 */
+	public int getCode() {
+
+		return -(ordinal() + 1);
+	}
+
+
+	/**
+	 * Retrieves the error for the given result of DateParser.tryParsePacked
+	 *
+	 * @param code result of DateParser.tryParsePacked
+	 * @return the error, or null if the code represents a valid (packed) date
+	 */
+	public static DateError fromCode(final int code) {
+
+		if (code >= 0) {
+			return null;
+		}
+		final int ordinal = -code - 1;
+		if (ordinal >= VALUES.length) {
+			throw new IllegalArgumentException("[" + code + "] is not a valid error code");
+		}
+		return VALUES[ordinal];
+	}
+}
@@ -0,0 +1,167 @@
+package date.model;
+
+import date.annotations.VisibleForTesting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional, size bounded, cache of date strings to their parsed Date, for inputs that repeat the same strings.
+ * <p>
+ * A repeated string is returned from the cache, without being tokenised or validated again.
+ * Strings that are not valid dates are not cached, they throw the same exception as new Date(text), each time.
+ * <p>
+ * The cache is split into segments, each an access ordered LinkedHashMap, (i.e. least recently used eviction),
+ * guarded by its own lock, so that threads parsing different strings rarely contend.
+ * <p>
+ * e.g.
+ * DateParseCache cache = new DateParseCache(1024);
+ * Date date = cache.parse("25 12 2000");
+ */
+public final class DateParseCache {
+
+	@VisibleForTesting
+	static final String MAXIMUM_SIZE_ERROR = "The maximum size must be greater than 0, was %d";
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final Segment[] segments;
+	private final int maximumSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+
+	/**
+	 * @param maximumSize max count of strings held in the cache
+	 */
+	public DateParseCache(final int maximumSize) {
+
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException(String.format(MAXIMUM_SIZE_ERROR, maximumSize));
+		}
+		this.maximumSize = maximumSize;
+
+		//Power of 2 segments, each holding at least a few entries, so small caches still evict in LRU order
+		final int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maximumSize / 4)));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			//Spread the remainder, so the segment sizes add up to the maximum size
+			segments[i] = new Segment(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+		}
+	}
+
+
+	/**
+	 * Same as Date.parse(text), for strings that have been parsed before, the cached Date is returned.
+	 *
+	 * @param text date string, in the format "DD MM YYYY"
+	 * @return the Date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public Date parse(final String text) throws IllegalArgumentException {
+
+		final Segment segment = segmentFor(text);
+		Date date;
+		synchronized (segment) {
+			date = segment.get(text);
+		}
+		if (date != null) {
+			hits.increment();
+			return date;
+		}
+
+		misses.increment();
+		date = Date.parse(text);
+		synchronized (segment) {
+			segment.put(text, date);
+		}
+		return date;
+	}
+
+
+	/**
+	 * @return the count of parse calls that were answered from the cache
+	 */
+	public long getHitCount() {
+
+		return hits.sum();
+	}
+
+
+	/**
+	 * @return the count of parse calls that had to parse the string, (including invalid strings)
+	 */
+	public long getMissCount() {
+
+		return misses.sum();
+	}
+
+
+	public int getMaximumSize() {
+
+		return maximumSize;
+	}
+
+
+	/**
+	 * @return the count of strings currently cached
+	 */
+	public int size() {
+
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+
+	/**
+	 * Removes all the cached strings, the hit and miss counts are not reset.
+	 */
+	public void clear() {
+
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+
+	private Segment segmentFor(final String text) {
+
+		final int hash = text.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+
+	/**
+	 * Access ordered map, that removes the least recently used entry once it is full
+	 */
+	private static final class Segment extends LinkedHashMap<String, Date> {
+
+		private static final long serialVersionUID = 1L;
+
+		private static final float LOAD_FACTOR = 0.75f;
+
+		private final int maximumSize;
+
+
+		Segment(final int maximumSize) {
+
+			super((int) (maximumSize / LOAD_FACTOR) + 1, LOAD_FACTOR, true);
+			this.maximumSize = maximumSize;
+		}
+
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Date> eldest) {
+
+			return size() > maximumSize;
+		}
+	}
+}
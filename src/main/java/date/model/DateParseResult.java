@@ -0,0 +1,88 @@
+package date.model;
+
+/**
+ * Result of the exception free parse api, see DateParser.tryParse
+ * <p>
+ * Either holds a valid (packed) date, or the DateError describing why the date string was rejected.
+ * The error message is only built if getMessage is called.
+ * <p>
+ * nb: the parsed text is referenced, (not copied), so it should not be modified while the result is in use.
+ */
+public final class DateParseResult {
+
+	private final CharSequence text;
+	private final int start;
+	private final int end;
+	private final YearRange range;
+	private final int packedDateOrErrorCode;
+
+
+	DateParseResult(final CharSequence text, final int start, final int end, final YearRange range, final int packedDateOrErrorCode) {
+
+		this.text = text;
+		this.start = start;
+		this.end = end;
+		this.range = range;
+		this.packedDateOrErrorCode = packedDateOrErrorCode;
+	}
+
+
+	/**
+	 * @return true, if the text was a valid date
+	 */
+	public boolean isValid() {
+
+		return packedDateOrErrorCode >= 0;
+	}
+
+
+	/**
+	 * @return the reason the text was rejected, or null if it was valid
+	 */
+	public DateError getError() {
+
+		return DateError.fromCode(packedDateOrErrorCode);
+	}
+
+
+	/**
+	 * @return the same message that new Date(text) would have thrown, or null if the text was valid
+	 */
+	public String getMessage() {
+
+		if (isValid()) {
+			return null;
+		}
+		return DateParser.getErrorMessage(getError(), text, start, end, range);
+	}
+
+
+	/**
+	 * @return the date, packed in the format YYYYMMDD, see PackedDates
+	 * @throws IllegalArgumentException if the text was not a valid date
+	 */
+	public int getPackedDate() throws IllegalArgumentException {
+
+		if (!isValid()) {
+			throw new IllegalArgumentException(getMessage());
+		}
+		return packedDateOrErrorCode;
+	}
+
+
+	/**
+	 * @return the parsed Date
+	 * @throws IllegalArgumentException if the text was not a valid date, (with the same message as new Date(text))
+	 */
+	public Date getDate() throws IllegalArgumentException {
+
+		return Date.valueOf(getPackedDate(), range);
+	}
+
+
+	@Override
+	public String toString() {
+
+		return isValid() ? getDate().toString() : getError() + ": " + getMessage();
+	}
+}
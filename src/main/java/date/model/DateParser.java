@@ -0,0 +1,429 @@
+package date.model;
+
+import date.metrics.DateMetrics;
+
+/**
+ * Single pass parser for date strings in the format "DD MM YYYY".
+ * <p>
+ * The string is read once, char by char, without regular expressions, intermediate arrays
+ * or repeated Year/Month construction. The validation, (and the error messages), are the same as those
+ * produced by the Year, Month and DayOfMonth classes, i.e.
+ * <p>
+ * new Date("32 12 1902") and DateParser.parse("32 12 1902") both fail with "Day [32] is not a valid month day in DECEMBER, 1902"
+ * <p>
+ * Fields are separated by a single whitespace character, trailing whitespace is ignored.
+ * Years are validated against the default range, 1900 - 2010, unless a YearRange is given.
+ * Parse counts, errors and latencies are recorded when metrics are switched on, see DateMetrics.
+ * <p>
+ * Invalid dates can also be rejected without an exception, (or an error message), being created,
+ * see tryParse and tryParsePacked.
+ */
+public final class DateParser {
+
+	private static final int EXPECTED_SEPARATOR_COUNT = 2;
+
+	/**
+	 * Max count of ascii digits that can be parsed without the risk of an int overflow
+	 */
+	private static final int MAX_FAST_PATH_DIGITS = 9;
+
+	/**
+	 * Returned by parseNumber when the given chars do not represent an int
+	 */
+	private static final long NAN = Long.MIN_VALUE;
+
+	/**
+	 * Returned by findSeparators when the date string is not in the format DD MM YYYY
+	 */
+	private static final long NO_SEPARATORS = -1L;
+
+
+	private DateParser() {
+	}
+
+
+	/**
+	 * Parses the given text, in the format "DD MM YYYY", into a Date
+	 *
+	 * @param text date string to be parsed
+	 * @return the parsed Date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public static Date parse(final CharSequence text) throws IllegalArgumentException {
+
+		return parse(text, 0, text.length());
+	}
+
+
+	/**
+	 * Parses the given text, in the format "DD MM YYYY", into a Date, with a year in the given range
+	 *
+	 * @param text  date string to be parsed
+	 * @param range range of valid years
+	 * @return the parsed Date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public static Date parse(final CharSequence text, final YearRange range) throws IllegalArgumentException {
+
+		return Date.parse(text, range);
+	}
+
+
+	/**
+	 * Parses the chars between start (inclusive) and end (exclusive), in the format "DD MM YYYY", into a Date.
+	 * <p>
+	 * e.g. parse("25 12 2000, 26 12 2000", 12, 22) will return the 26th of December 2000,
+	 * without creating a substring.
+	 *
+	 * @param text  text containing the date to be parsed
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @return the parsed (canonical) Date, see Date.of
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public static Date parse(final CharSequence text, final int start, final int end) throws IllegalArgumentException {
+
+		return DatePool.get(parseFields(text, start, end, YearRange.DEFAULT));
+	}
+
+
+	/**
+	 * Parses the given text, in the format "DD MM YYYY", without throwing an exception if it is invalid.
+	 *
+	 * @param text date string to be parsed
+	 * @return the result, either the valid date, or the reason it was rejected
+	 */
+	public static DateParseResult tryParse(final CharSequence text) {
+
+		return tryParse(text, 0, text.length());
+	}
+
+
+	/**
+	 * Parses the given text, in the format "DD MM YYYY", with a year in the given range,
+	 * without throwing an exception if it is invalid.
+	 *
+	 * @param text  date string to be parsed
+	 * @param range range of valid years
+	 * @return the result, either the valid date, or the reason it was rejected
+	 */
+	public static DateParseResult tryParse(final CharSequence text, final YearRange range) {
+
+		return new DateParseResult(text, 0, text.length(), range, tryParsePacked(text, 0, text.length(), range));
+	}
+
+
+	/**
+	 * Parses the chars between start (inclusive) and end (exclusive), in the format "DD MM YYYY",
+	 * without throwing an exception if they are invalid.
+	 *
+	 * @param text  text containing the date to be parsed
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @return the result, either the valid date, or the reason it was rejected
+	 */
+	public static DateParseResult tryParse(final CharSequence text, final int start, final int end) {
+
+		return new DateParseResult(text, start, end, YearRange.DEFAULT, tryParsePacked(text, start, end));
+	}
+
+
+	/**
+	 * Allocation free version of tryParse, for bulk ingestion.
+	 * <p>
+	 * e.g.
+	 * int result = DateParser.tryParsePacked(line, 0, 10);
+	 * if (result < 0) {
+	 *     DateError error = DateError.fromCode(result);
+	 * }
+	 *
+	 * @param text  text containing the date to be parsed
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @return the date, packed in the format YYYYMMDD, (see PackedDates), or a negative error code, see DateError.fromCode
+	 */
+	public static int tryParsePacked(final CharSequence text, final int start, final int end) {
+
+		return tryParsePacked(text, start, end, YearRange.DEFAULT);
+	}
+
+
+	/**
+	 * Same as tryParsePacked(text, start, end), with a year in the given range
+	 *
+	 * @param text  text containing the date to be parsed
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @param range range of valid years
+	 * @return the date, packed in the format YYYYMMDD, (see PackedDates), or a negative error code, see DateError.fromCode
+	 */
+	public static int tryParsePacked(final CharSequence text, final int start, final int end, final YearRange range) {
+
+		if (!DateMetrics.isRecording()) {
+			return parsePacked(text, start, end, range);
+		}
+		final long startNanos = System.nanoTime();
+		final int result = parsePacked(text, start, end, range);
+		DateMetrics.recordParse(result, System.nanoTime() - startNanos);
+		return result;
+	}
+
+
+	private static int parsePacked(final CharSequence text, final int start, final int end, final YearRange range) {
+
+		final int last = trimTrailingWhitespace(text, start, end);
+		final long separators = findSeparators(text, start, last);
+		if (separators == NO_SEPARATORS) {
+			return DateError.INVALID_FORMAT.getCode();
+		}
+		final int firstSeparator = (int) (separators >>> 32);
+		final int secondSeparator = (int) separators;
+
+		//Validate in the same order as the Date(String) constructor, year, then month, then day
+		final int year = parseYear(text, secondSeparator + 1, last, range);
+		if (year < 0) {
+			return year;
+		}
+		final int month = parseMonth(text, firstSeparator + 1, secondSeparator);
+		if (month < 0) {
+			return month;
+		}
+		final int day = parseDay(text, start, firstSeparator, month, year);
+		if (day < 0) {
+			return day;
+		}
+		return PackedDates.pack(year, month, day);
+	}
+
+
+	/**
+	 * Parses and validates the date, returning its fields packed into a single int, see PackedDates
+	 *
+	 * @param text  text containing the date to be parsed
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @param range range of valid years
+	 * @return the day, month and year packed into an int
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	static int parseFields(final CharSequence text, final int start, final int end, final YearRange range) throws IllegalArgumentException {
+
+		final int result = tryParsePacked(text, start, end, range);
+		if (result < 0) {
+			throw new IllegalArgumentException(getErrorMessage(DateError.fromCode(result), text, start, end, range));
+		}
+		return result;
+	}
+
+
+	/**
+	 * Builds the message for the given error, the same message as thrown by the Year, Month and DayOfMonth classes.
+	 * <p>
+	 * nb: Only called once a caller asks for the message, so the fields are found again here,
+	 * rather than being tracked on the parse path. The date is not parsed again, so nothing is recorded, see DateMetrics.
+	 * <p>
+	 * e.g. for a rejected result of tryParsePacked
+	 * DateParser.getErrorMessage(DateError.fromCode(result), text, start, end, YearRange.DEFAULT)
+	 *
+	 * @param error reason the date was rejected
+	 * @param text  text containing the date
+	 * @param start index of the first char of the date
+	 * @param end   index after the last char of the date
+	 * @param range range of valid years the date was parsed with
+	 * @return the error message
+	 */
+	public static String getErrorMessage(final DateError error, final CharSequence text, final int start, final int end, final YearRange range) {
+
+		final int last = trimTrailingWhitespace(text, start, end);
+		final long separators = findSeparators(text, start, last);
+		final int firstSeparator = (int) (separators >>> 32);
+		final int secondSeparator = (int) separators;
+
+		switch (error) {
+			case BLANK_YEAR:
+				return Year.BLANK_YEAR_FORMAT_ERROR;
+			case INVALID_YEAR:
+				return String.format(Year.INVALID_YEAR_FORMAT_ERROR, text.subSequence(secondSeparator + 1, last));
+			case YEAR_NEGATIVE_OR_ZERO:
+				return Year.YEAR_NEGATIVE_OR_ZERO_ERROR;
+			case YEAR_OUT_OF_RANGE:
+				final long year = parseNumber(text, secondSeparator + 1, last);
+				return String.format(Year.YEAR_RANGE_ERROR, year, range.getMinYear(), range.getMaxYear());
+			case INVALID_MONTH:
+				return String.format(Month.MONTH_PARAMETER_ERROR, text.subSequence(firstSeparator + 1, secondSeparator));
+			case BLANK_DAY:
+				return DayOfMonth.DAY_OF_MONTH_BLANK_ERROR;
+			case DAY_NOT_A_NUMBER:
+				return String.format(DayOfMonth.DAY_OF_MONTH_NAN, text.subSequence(start, firstSeparator));
+			case DAY_NEGATIVE_OR_ZERO:
+				return DayOfMonth.DAY_OF_MONTH_IS_NEGATIVE_OR_ZERO_ERROR;
+			case INVALID_DAY_OF_MONTH:
+				return String.format(DayOfMonth.INVALID_DAY_OF_MONTH_ERROR,
+						parseNumber(text, start, firstSeparator),
+						Month.fromIndex((int) parseNumber(text, firstSeparator + 1, secondSeparator)).name(),
+						String.format("%04d", parseNumber(text, secondSeparator + 1, last)));
+			default:
+				return String.format(Date.DATE_STRING_HAS_INVALID_FORMAT_ERROR, text.subSequence(start, end));
+		}
+	}
+
+
+	/**
+	 * @return the index after the last non whitespace char, (trailing whitespace is ignored, as per String.split)
+	 */
+	private static int trimTrailingWhitespace(final CharSequence text, final int start, final int end) {
+
+		int last = end;
+		while (last > start && isWhitespace(text.charAt(last - 1))) {
+			last--;
+		}
+		return last;
+	}
+
+
+	/**
+	 * Find the 2 separators, DD_MM_YYYY
+	 *
+	 * @return the index of the first separator, (in the high 32 bits), and the second separator (in the low 32 bits),
+	 * or NO_SEPARATORS if there are not exactly 2 separators
+	 */
+	private static long findSeparators(final CharSequence text, final int start, final int last) {
+
+		int firstSeparator = -1;
+		int secondSeparator = -1;
+		int separatorCount = 0;
+		for (int i = start; i < last; i++) {
+			if (isWhitespace(text.charAt(i))) {
+				separatorCount++;
+				if (separatorCount == 1) {
+					firstSeparator = i;
+				} else if (separatorCount == 2) {
+					secondSeparator = i;
+				}
+			}
+		}
+
+		if (last == start || separatorCount != EXPECTED_SEPARATOR_COUNT) {
+			return NO_SEPARATORS;
+		}
+		return ((long) firstSeparator << 32) | secondSeparator;
+	}
+
+
+	/**
+	 * @return the year, or a negative error code
+	 */
+	private static int parseYear(final CharSequence text, final int start, final int end, final YearRange range) {
+
+		if (isBlank(text, start, end)) {
+			return DateError.BLANK_YEAR.getCode();
+		}
+		final long parsed = parseNumber(text, start, end);
+		if (parsed == NAN) {
+			return DateError.INVALID_YEAR.getCode();
+		}
+
+		final int year = (int) parsed;
+		if (year <= 0) {
+			return DateError.YEAR_NEGATIVE_OR_ZERO.getCode();
+		}
+		if (!range.contains(year)) {
+			return DateError.YEAR_OUT_OF_RANGE.getCode();
+		}
+		return year;
+	}
+
+
+	/**
+	 * @return the month number, or a negative error code
+	 */
+	private static int parseMonth(final CharSequence text, final int start, final int end) {
+
+		final long parsed = parseNumber(text, start, end);
+		if (parsed < Month.JANUARY.getAsNumber() || parsed > Month.DECEMBER.getAsNumber()) {
+			return DateError.INVALID_MONTH.getCode();
+		}
+		return (int) parsed;
+	}
+
+
+	/**
+	 * @return the day of the month, or a negative error code
+	 */
+	private static int parseDay(final CharSequence text, final int start, final int end, final int month, final int year) {
+
+		if (isBlank(text, start, end)) {
+			return DateError.BLANK_DAY.getCode();
+		}
+		final long parsed = parseNumber(text, start, end);
+		if (parsed == NAN) {
+			return DateError.DAY_NOT_A_NUMBER.getCode();
+		}
+
+		final int day = (int) parsed;
+		if (day <= 0) {
+			return DateError.DAY_NEGATIVE_OR_ZERO.getCode();
+		}
+		if (day > CalendarTable.getDaysInMonth(year, month)) {
+			return DateError.INVALID_DAY_OF_MONTH.getCode();
+		}
+		return day;
+	}
+
+
+	/**
+	 * Parses the given chars as an int.
+	 * <p>
+	 * Plain ascii digits are parsed inline, anything else (signs, non ascii digits, very long numbers)
+	 * falls back to Integer.parseInt, so that the accepted values are the same as the other Date constructors.
+	 *
+	 * @return the parsed number, or NAN if the chars do not represent an int
+	 */
+	private static long parseNumber(final CharSequence text, final int start, final int end) {
+
+		final int length = end - start;
+		if (length > 0 && length <= MAX_FAST_PATH_DIGITS) {
+			int value = 0;
+			int i = start;
+			for (; i < end; i++) {
+				final int digit = text.charAt(i) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = value * 10 + digit;
+			}
+			if (i == end) {
+				return value;
+			}
+		}
+
+		try {
+			return Integer.parseInt(text.subSequence(start, end).toString());
+		} catch (NumberFormatException nfe) {
+			return NAN;
+		}
+	}
+
+
+	/**
+	 * Same as String.trim().length() == 0, for the given chars
+	 */
+	private static boolean isBlank(final CharSequence text, final int start, final int end) {
+
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Same as the regex "\\s" character class, i.e. [ \t\n\x0B\f\r]
+	 */
+	private static boolean isWhitespace(final char c) {
+
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+}
@@ -0,0 +1,44 @@
+package date.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static date.model.Year.DEFAULT_MAX_YEAR;
+import static date.model.Year.DEFAULT_MIN_YEAR;
+
+/**
+ * Pool of canonical Date instances, one for each day in the default year range, (1900 - 2010, ~40,500 dates),
+ * indexed by epoch day.
+ * <p>
+ * Dates are created lazily, on first use. The pool is lock free, if 2 threads race to create the same date, the first one to be stored wins,
+ * and is returned to both.
+ * <p>
+ * Package local, see Date.of and Date.parse
+ */
+final class DatePool {
+
+	private static final int FIRST_EPOCH_DAY = EpochDay.of(DEFAULT_MIN_YEAR, 1, 1);
+	private static final int LAST_EPOCH_DAY = EpochDay.of(DEFAULT_MAX_YEAR, 12, 31);
+
+	private static final AtomicReferenceArray<Date> DATES = new AtomicReferenceArray<>(LAST_EPOCH_DAY - FIRST_EPOCH_DAY + 1);
+
+
+	private DatePool() {
+	}
+
+
+	/**
+	 * @param packedDate date, in the format YYYYMMDD, that has already been validated, see PackedDates.isValid
+	 * @return the canonical Date instance
+	 */
+	static Date get(final int packedDate) {
+
+		final int index = PackedDates.toEpochDay(packedDate) - FIRST_EPOCH_DAY;
+		final Date pooled = DATES.get(index);
+		if (pooled != null) {
+			return pooled;
+		}
+
+		final Date date = new Date(packedDate, YearRange.DEFAULT);
+		return DATES.compareAndSet(index, null, date) ? date : DATES.get(index);
+	}
+}
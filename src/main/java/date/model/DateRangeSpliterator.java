@@ -0,0 +1,106 @@
+package date.model;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy spliterator over a range of dates, each date is only created once it is consumed.
+ * <p>
+ * The dates are the (index)th step from the first epoch day, so the remaining range is split at its midpoint
+ * in O(1), without building a list, and the size of each half is known exactly, (SIZED, SUBSIZED).
+ * <p>
+ * Package local, see Date.range
+ */
+final class DateRangeSpliterator implements Spliterator<Date> {
+
+	private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+	private final int firstEpochDay;
+	private final int stepDays;
+	private final YearRange yearRange;
+
+	/**
+	 * Index of the next date, and the index after the last date, (i.e. the count of steps from the first epoch day)
+	 */
+	private long index;
+	private final long fence;
+
+
+	DateRangeSpliterator(final int firstEpochDay, final int stepDays, final YearRange yearRange, final long index, final long fence) {
+
+		this.firstEpochDay = firstEpochDay;
+		this.stepDays = stepDays;
+		this.yearRange = yearRange;
+		this.index = index;
+		this.fence = fence;
+	}
+
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super Date> action) {
+
+		if (index >= fence) {
+			return false;
+		}
+		action.accept(dateAt(index++));
+		return true;
+	}
+
+
+	@Override
+	public void forEachRemaining(final Consumer<? super Date> action) {
+
+		final long end = fence;
+		for (long i = index; i < end; i++) {
+			action.accept(dateAt(i));
+		}
+		index = end;
+	}
+
+
+	/**
+	 * Splits off the first half of the remaining dates, at the midpoint
+	 */
+	@Override
+	public Spliterator<Date> trySplit() {
+
+		final long low = index;
+		final long mid = (low + fence) >>> 1;
+		if (low >= mid) {
+			return null;
+		}
+		index = mid;
+		return new DateRangeSpliterator(firstEpochDay, stepDays, yearRange, low, mid);
+	}
+
+
+	@Override
+	public long estimateSize() {
+
+		return fence - index;
+	}
+
+
+	@Override
+	public int characteristics() {
+
+		return CHARACTERISTICS;
+	}
+
+
+	/**
+	 * @return null, the dates are in their natural order
+	 */
+	@Override
+	public Comparator<? super Date> getComparator() {
+
+		return null;
+	}
+
+
+	private Date dateAt(final long i) {
+
+		return Date.fromEpochDay(firstEpochDay + i * stepDays, yearRange);
+	}
+}
@@ -2,8 +2,6 @@ package date.model;
 
 import date.annotations.VisibleForTesting;
 
-import java.util.Objects;
-
 import static date.model.Period.*;
 
 /**
@@ -24,9 +22,11 @@ final class DayOfMonth {
 	@VisibleForTesting
 	static final String INVALID_DAY_OF_MONTH_ERROR = "Day [%s] is not a valid month day in %s, %s";
 
-	private final int dayOfMonth;
-	private final Month month;
-	private final Year year;
+	/**
+	 * The day, month and year this day was validated for, packed into an int, see PackedDates.
+	 * nb: Only the numbers are kept, not the Month and Year references.
+	 */
+	private final int packedDate;
 
 
 	/**
@@ -58,10 +58,8 @@ final class DayOfMonth {
 	 */
 	public DayOfMonth(final int dayOfMonth, final Month month, final Year year) {
 
-		this.dayOfMonth = dayOfMonth;
-		this.month = month;
-		this.year = year;
 		validateDayOfMonth(dayOfMonth, month, year);
+		this.packedDate = PackedDates.pack(year.getYear(), month.getAsNumber(), dayOfMonth);
 	}
 
 
@@ -101,7 +99,7 @@ final class DayOfMonth {
 	 */
 	public long getTotalSecondsSinceStartOfMonth() {
 
-		return dayOfMonth * DAY.getSeconds();
+		return getDayOfMonthAsNumber() * DAY.getSeconds();
 	}
 
 
@@ -119,11 +117,10 @@ final class DayOfMonth {
 
 		String errorMsg = null;
 
-		final boolean isLeapYear = year.isLeapYear();
 		if (dayOfMonth <= 0) {
 			errorMsg = DAY_OF_MONTH_IS_NEGATIVE_OR_ZERO_ERROR;
 		} else {
-			if (!month.isValidDayInMonth(dayOfMonth, isLeapYear)) {
+			if (dayOfMonth > CalendarTable.getDaysInMonth(year.getYear(), month.getAsNumber())) {
 				errorMsg = String.format(INVALID_DAY_OF_MONTH_ERROR, dayOfMonth, month.name(), year);
 			}
 		}
@@ -135,14 +132,12 @@ final class DayOfMonth {
 
 
 	public int getDayOfMonthAsNumber() {
-		return dayOfMonth;
+		return PackedDates.getDayOfMonth(packedDate);
 	}
 
 
 	/**
-	 * Generated Equals and HashCode
-	 * <p>
-	 * Would use the new Objects.equal and Objects.hashCode for these, if Java 7 or above.
+	 * Days are equal if they were validated for the same day, month and year
 	 *
 	 * @param o object for comparison
 	 * @return True, if the Objects are equal
@@ -155,17 +150,13 @@ final class DayOfMonth {
 
 		DayOfMonth that = (DayOfMonth) o;
 
-		if (dayOfMonth != that.dayOfMonth) return false;
-		if (month != that.month) return false;
-		if (year != null ? !year.equals(that.year) : that.year != null) return false;
-
-		return true;
+		return packedDate == that.packedDate;
 	}
 
 
 	@Override
 	public int hashCode() {
 
-		return Objects.hash(dayOfMonth, month, year);
+		return packedDate;
 	}
 }
@@ -0,0 +1,45 @@
+package date.model;
+
+/**
+ * Days of the week, in ISO order, i.e. the week starts on a MONDAY.
+ * <p>
+ * The day of the week is calculated from the epoch day, (see Date.getEpochDay), the 1st of January 1900 was a MONDAY.
+ */
+public enum DayOfWeek {
+
+	MONDAY,
+	TUESDAY,
+	WEDNESDAY,
+	THURSDAY,
+	FRIDAY,
+	SATURDAY,
+	SUNDAY;
+
+	private static final int DAYS_IN_WEEK = 7;
+
+	/**
+	 * Epoch day of a known MONDAY, 01 01 1900, modulo 7
+	 */
+	private static final int MONDAY_EPOCH_DAY_OFFSET = EpochDay.of(1900, 1, 1) % DAYS_IN_WEEK;
+
+	private static final DayOfWeek[] VALUES = values();
+
+
+	/**
+	 * @param epochDay count of days since the epoch, see Date.getEpochDay
+	 * @return the day of the week for the epoch day
+	 */
+	public static DayOfWeek fromEpochDay(final long epochDay) {
+
+		return VALUES[(int) Math.floorMod(epochDay - MONDAY_EPOCH_DAY_OFFSET, (long) DAYS_IN_WEEK)];
+	}
+
+
+	/**
+	 * @return true, for SATURDAY and SUNDAY
+	 */
+	public boolean isWeekend() {
+
+		return this == SATURDAY || this == SUNDAY;
+	}
+}
@@ -0,0 +1,112 @@
+package date.model;
+
+/**
+ * Closed form calendar engine, converts a day/month/year combo into a count of days since the epoch,
+ * without iterating over the years or months in between. (Using leap year counting, and the cumulative
+ * month tables in Month)
+ * <p>
+ * The epoch is the same one used by Date, i.e. the 1st of January, year 0.
+ * (Proleptic Gregorian calendar, year 0 is treated as a leap year, as per Year.isLeapYear)
+ * <p>
+ * e.g. EpochDay.of(1900, 1, 1) = 693961
+ * <p>
+ * Package local, used by Date, Year and Month.
+ */
+final class EpochDay {
+
+	private static final int DAYS_IN_COMMON_YEAR = 365;
+
+	/**
+	 * Constants for the conversion from an epoch day, back to a date, see toPackedDate.
+	 * Days are counted from the 1st of March, year 0, so that the leap day is the last day of the (shifted) year.
+	 */
+	private static final int DAYS_BEFORE_MARCH_IN_YEAR_0 = 60;
+	private static final int DAYS_IN_400_YEARS = 146097;
+	private static final int DAYS_IN_100_YEARS = 36524;
+	private static final int DAYS_IN_4_YEARS = 1460;
+
+
+	private EpochDay() {
+	}
+
+
+	/**
+	 * Retrieves the count of days from the epoch, until the 1st day of the given year.
+	 * <p>
+	 * Counts the leap years in the range 0 .. (year - 1), i.e. every 4th year, except every 100th year,
+	 * but including every 400th year. Year 0 is a leap year, hence the + 1.
+	 *
+	 * @param year year to be processed
+	 * @return the count of days, from the epoch, prior to the given year. 0, if the year is 0 or less.
+	 */
+	static int daysBeforeYear(final int year) {
+
+		if (year <= 0) {
+			return 0;
+		}
+		final int previousYear = year - 1;
+		final int leapYears = previousYear / 4 - previousYear / 100 + previousYear / 400 + 1;
+		return year * DAYS_IN_COMMON_YEAR + leapYears;
+	}
+
+
+	/**
+	 * Retrieves the count of days in the year, prior to the 1st day of the given month.
+	 * <p>
+	 * e.g. daysBeforeMonth(3, true) = 60 (31 days in JANUARY + 29 days in FEBRUARY)
+	 *
+	 * @param monthIndex month number, 1 - 12
+	 * @param isLeapYear denotes whether feb 29 should be used in the calculation
+	 * @return the count of days, prior to the given month
+	 */
+	static int daysBeforeMonth(final int monthIndex, final boolean isLeapYear) {
+
+		return Month.daysBeforeMonth(monthIndex, isLeapYear);
+	}
+
+
+	/**
+	 * Retrieves the count of days from the epoch, to the given date.
+	 * <p>
+	 * Years in the default range are a single table lookup, see CalendarTable.
+	 * <p>
+	 * nb: the day/month/year combo is expected to have been validated by the caller.
+	 *
+	 * @param year       year of the date
+	 * @param monthIndex month of the date, 1 - 12
+	 * @param dayOfMonth day of the month, 1 - 31
+	 * @return the count of days since the epoch, e.g. 0 for the 1st of January, year 0
+	 */
+	static int of(final int year, final int monthIndex, final int dayOfMonth) {
+
+		return CalendarTable.getEpochDayOfFirst(year, monthIndex) + dayOfMonth - 1;
+	}
+
+
+	/**
+	 * Converts a count of days since the epoch back into a date, without iterating over the years or months.
+	 * <p>
+	 * Counts the days from the 1st of March, year 0, so that the leap day is always at the end
+	 * of the (shifted) year, then splits the days into 400 year eras, years, and 153 day (5 month) blocks.
+	 * See http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+	 * <p>
+	 * e.g. toPackedDate(693961) = 19000101
+	 *
+	 * @param epochDay count of days since the epoch
+	 * @return the date, packed in the format YYYYMMDD, see PackedDates
+	 */
+	static int toPackedDate(final int epochDay) {
+
+		final int daysSinceMarch = epochDay - DAYS_BEFORE_MARCH_IN_YEAR_0;
+		final int era = Math.floorDiv(daysSinceMarch, DAYS_IN_400_YEARS);
+		final int dayOfEra = daysSinceMarch - era * DAYS_IN_400_YEARS;
+		final int yearOfEra = (dayOfEra - dayOfEra / DAYS_IN_4_YEARS + dayOfEra / DAYS_IN_100_YEARS - dayOfEra / (DAYS_IN_400_YEARS - 1)) / DAYS_IN_COMMON_YEAR;
+		final int dayOfYear = dayOfEra - (DAYS_IN_COMMON_YEAR * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+
+		final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		final int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		return PackedDates.pack(year, month, day);
+	}
+}
@@ -2,8 +2,6 @@ package date.model;
 
 import date.annotations.VisibleForTesting;
 
-import java.util.logging.Logger;
-
 import static date.model.Period.DAY;
 
 /**
@@ -34,7 +32,30 @@ public enum Month {
 	private final int minDays;
 	private final int maxDays;
 
-	private final static Logger log = Logger.getLogger("date.model.Month");
+	/**
+	 * Static lookup tables, so that lookups, cumulative offsets and previous/next months
+	 * are constant time, (and don't clone the values() array on each call)
+	 *
+	 * VALUES - indexed by ordinal
+	 * BY_INDEX - indexed by month number, 1 - 12 (index 0 is unused)
+	 * DAYS_BEFORE_* - cumulative count of days prior to the 1st of the month, indexed by month number
+	 */
+	private static final Month[] VALUES = values();
+	private static final Month[] BY_INDEX = new Month[VALUES.length + 1];
+	private static final int[] DAYS_BEFORE_IN_COMMON_YEAR = new int[VALUES.length + 1];
+	private static final int[] DAYS_BEFORE_IN_LEAP_YEAR = new int[VALUES.length + 1];
+
+	static {
+		int commonYearDays = 0;
+		int leapYearDays = 0;
+		for (Month month : VALUES) {
+			BY_INDEX[month.monthIndex] = month;
+			DAYS_BEFORE_IN_COMMON_YEAR[month.monthIndex] = commonYearDays;
+			DAYS_BEFORE_IN_LEAP_YEAR[month.monthIndex] = leapYearDays;
+			commonYearDays += month.minDays;
+			leapYearDays += month.maxDays;
+		}
+	}
 
 	/**
 	 * Enum constructor
@@ -69,17 +90,9 @@ public enum Month {
 
 		Month foundMonth = null;
 		try {
-			int monthIx = Integer.parseInt(monthStr);
-
-			foundMonth = null;
-
-			for (Month month : Month.values()) {
-				if (month.monthIndex == monthIx) {
-					foundMonth = month;
-				}
-			}
+			foundMonth = lookup(Integer.parseInt(monthStr));
 		} catch (NumberFormatException e) {
-			log.severe("Number format exception: monthStr[" + monthStr + "]");
+			//Fall through, foundMonth is null, reported below
 		}
 
 		if (foundMonth == null) {
@@ -102,7 +115,42 @@ public enum Month {
 	 *  If the numeric does not represent a month index
 	 */
 	public static Month fromIndex(final int monthIndex) {
-		return fromIndexString(String.valueOf(monthIndex));
+
+		final Month month = lookup(monthIndex);
+		if (month == null) {
+			String msg = String.format(MONTH_PARAMETER_ERROR, monthIndex);
+			throw new IllegalArgumentException(msg);
+		}
+		return month;
+	}
+
+
+	/**
+	 * @return the Month for the given month number, or null if the number is not in the range 1 - 12
+	 */
+	private static Month lookup(final int monthIndex) {
+
+		if (monthIndex < 1 || monthIndex >= BY_INDEX.length) {
+			return null;
+		}
+		return BY_INDEX[monthIndex];
+	}
+
+
+	/**
+	 * Retrieves the count of days in the year, prior to the 1st day of the given month number.
+	 * nb: Package local, the month number is expected to have been validated by the caller.
+	 *
+	 * @param monthIndex month number, 1 - 12
+	 * @param isLeapYear denotes whether feb 29 should be used in the calculation
+	 * @return the count of days, prior to the given month
+	 */
+	static int daysBeforeMonth(final int monthIndex, final boolean isLeapYear) {
+
+		if (isLeapYear) {
+			return DAYS_BEFORE_IN_LEAP_YEAR[monthIndex];
+		}
+		return DAYS_BEFORE_IN_COMMON_YEAR[monthIndex];
 	}
 
 	/**
@@ -116,16 +164,21 @@ public enum Month {
 	 */
 	public long getTotalSecondsBefore(final boolean isLeapYear) {
 
-		long totalSeconds = 0;
+		return getDaysBefore(isLeapYear) * DAY.getSeconds();
+	}
 
-		for (Month month: Month.values()) {
-			if (month == this) {
-				break;
-			} else {
-				totalSeconds += month.getTotalSeconds(isLeapYear);
-			}
-		}
-		return totalSeconds;
+
+	/**
+	 * Retrieves the count of days this year, prior to the first day of this month.
+	 * <p>
+	 * e.g. MARCH.getDaysBefore(true) = 60 (31 days in JANUARY + 29 days in FEBRUARY)
+	 *
+	 * @param isLeapYear denotes whether feb 29 should be used in the calculation
+	 * @return the count of days, for the current year, prior to the 1st day of this month.
+	 */
+	public int getDaysBefore(final boolean isLeapYear) {
+
+		return daysBeforeMonth(monthIndex, isLeapYear);
 	}
 
 	/**
@@ -190,7 +243,7 @@ public enum Month {
 
 
 	/**
-	 * Use the enum values array and the enum's ordinal position,
+	 * Use the (static) enum values array and the enum's ordinal position,
 	 * to get the previous month.
 	 *
 	 * e.g. Given [JANUARY, FEBRUARY, MARCH, APRIL, MAY, JUNE, JULY, AUGUST, SEPTEMBER, OCTOBER, NOVEMBER, DECEMBER]
@@ -200,13 +253,31 @@ public enum Month {
 	 *  the month prior to this one.
 	 */
 	public Month getPreviousMonth() {
-		final Month [] months = Month.values();
 		int previousMonthArrayIndex = this.ordinal() - 1;
 
 		if (previousMonthArrayIndex < 0) {
-			previousMonthArrayIndex = months.length - 1;
+			previousMonthArrayIndex = VALUES.length - 1;
+		}
+		return VALUES[previousMonthArrayIndex];
+	}
+
+
+	/**
+	 * Use the (static) enum values array and the enum's ordinal position,
+	 * to get the next month.
+	 *
+	 * e.g. DECEMBER.getNextMonth() = JANUARY;
+	 *
+	 * @return
+	 *  the month after this one.
+	 */
+	public Month getNextMonth() {
+		int nextMonthArrayIndex = this.ordinal() + 1;
+
+		if (nextMonthArrayIndex == VALUES.length) {
+			nextMonthArrayIndex = 0;
 		}
-		return months[previousMonthArrayIndex];
+		return VALUES[nextMonthArrayIndex];
 	}
 
 
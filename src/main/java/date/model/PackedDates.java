@@ -0,0 +1,234 @@
+package date.model;
+
+import date.annotations.VisibleForTesting;
+
+/**
+ * Primitive, allocation free, api for working with dates packed into a single int, in the format YYYYMMDD.
+ * <p>
+ * e.g. the 25th of December 2000 is packed as 20001225
+ * <p>
+ * Packed dates sort in date order, (as plain ints), so Arrays.sort(int[]) can be used to sort them.
+ * Validation uses the same rules as the Date class, i.e. Year.isLeapYear, Month.isValidDayInMonth and
+ * the default year range, (Year.DEFAULT_MIN_YEAR .. Year.DEFAULT_MAX_YEAR).
+ * <p>
+ * Intended for bulk work over int[] / long[] columns of dates, where creating a Date per value is too costly.
+ */
+public final class PackedDates {
+
+	@VisibleForTesting
+	static final String ARRAY_LENGTH_MISMATCH_ERROR = "The arrays must be the same length, [%d] and [%d] were provided";
+
+	private static final int YEAR_MULTIPLIER = 10000;
+	private static final int MONTH_MULTIPLIER = 100;
+
+	private static final int LESS_THAN = -1;
+	private static final int GREATER_THAN = 1;
+
+
+	private PackedDates() {
+	}
+
+
+	/**
+	 * Packs the given fields into a single int, in the format YYYYMMDD, e.g. 25th Dec 2000 = 20001225
+	 * <p>
+	 * nb: the fields are not validated, see isValid
+	 *
+	 * @param year       year, 0 - 9999
+	 * @param month      month, 1 - 12
+	 * @param dayOfMonth day of the month, 1 - 31
+	 * @return the packed date
+	 */
+	public static int pack(final int year, final int month, final int dayOfMonth) {
+
+		return year * YEAR_MULTIPLIER + month * MONTH_MULTIPLIER + dayOfMonth;
+	}
+
+
+	/**
+	 * @return the given Date, packed in the format YYYYMMDD
+	 */
+	public static int pack(final Date date) {
+
+		return pack(date.getYear(), date.getMonth().getAsNumber(), date.getDayOfMonth());
+	}
+
+
+	public static int getYear(final int packedDate) {
+
+		return packedDate / YEAR_MULTIPLIER;
+	}
+
+
+	public static int getMonth(final int packedDate) {
+
+		return packedDate / MONTH_MULTIPLIER % MONTH_MULTIPLIER;
+	}
+
+
+	public static int getDayOfMonth(final int packedDate) {
+
+		return packedDate % MONTH_MULTIPLIER;
+	}
+
+
+	/**
+	 * Unpacks the given date into a Date object, (the canonical instance, see Date.of)
+	 *
+	 * @param packedDate date, in the format YYYYMMDD
+	 * @return the Date
+	 * @throws IllegalArgumentException if the packed date is not valid
+	 */
+	public static Date toDate(final int packedDate) throws IllegalArgumentException {
+
+		if (!isValid(packedDate)) {
+			//Throws the same exception as the Year, Month and DayOfMonth constructors
+			return Date.of(getDayOfMonth(packedDate), getMonth(packedDate), getYear(packedDate));
+		}
+		return DatePool.get(packedDate);
+	}
+
+
+	/**
+	 * Validates the given day/month/year combo, using the same rules as the Date class.
+	 *
+	 * @return true, if the fields represent a valid date within the default year range
+	 */
+	public static boolean isValid(final int year, final int month, final int dayOfMonth) {
+
+		return isValid(year, month, dayOfMonth, YearRange.DEFAULT);
+	}
+
+
+	/**
+	 * Validates the given day/month/year combo, with a year in the given range
+	 *
+	 * @return true, if the fields represent a valid date within the year range
+	 */
+	public static boolean isValid(final int year, final int month, final int dayOfMonth, final YearRange yearRange) {
+
+		if (!yearRange.contains(year)) {
+			return false;
+		}
+		return CalendarTable.isValidDayInMonth(year, month, dayOfMonth);
+	}
+
+
+	/**
+	 * @return true, if the packed date represents a valid date within the default year range
+	 */
+	public static boolean isValid(final int packedDate) {
+
+		return packedDate > 0 && isValid(getYear(packedDate), getMonth(packedDate), getDayOfMonth(packedDate));
+	}
+
+
+	/**
+	 * Validates each of the packed dates.
+	 *
+	 * @param packedDates dates to be validated
+	 * @param valid       set to true, or false, for each date (at the same index)
+	 * @return the count of valid dates
+	 */
+	public static int validate(final int[] packedDates, final boolean[] valid) {
+
+		validateLengths(packedDates.length, valid.length);
+		int validCount = 0;
+		for (int i = 0; i < packedDates.length; i++) {
+			final boolean isValid = isValid(packedDates[i]);
+			valid[i] = isValid;
+			validCount += isValid ? 1 : 0;
+		}
+		return validCount;
+	}
+
+
+	/**
+	 * Compares 2 packed dates
+	 *
+	 * @return -1 (Less than), 0 (Equal), 1 (Greater than), the same as Date.compareTo
+	 */
+	public static int compare(final int packedDate, final int thatPackedDate) {
+
+		if (packedDate < thatPackedDate) {
+			return LESS_THAN;
+		}
+		if (packedDate == thatPackedDate) {
+			return 0;
+		}
+		return GREATER_THAN;
+	}
+
+
+	/**
+	 * @param packedDate (valid) date, in the format YYYYMMDD
+	 * @return the count of days since the epoch, see Date.getEpochDay
+	 */
+	public static int toEpochDay(final int packedDate) {
+
+		return EpochDay.of(getYear(packedDate), getMonth(packedDate), getDayOfMonth(packedDate));
+	}
+
+
+	/**
+	 * @param epochDay count of days since the epoch, see Date.getEpochDay
+	 * @return the date, in the format YYYYMMDD
+	 */
+	public static int fromEpochDay(final int epochDay) {
+
+		return EpochDay.toPackedDate(epochDay);
+	}
+
+
+	/**
+	 * Converts each of the packed dates into an epoch day
+	 *
+	 * @param packedDates (valid) dates, in the format YYYYMMDD
+	 * @param epochDays   set to the epoch day, for each date (at the same index)
+	 */
+	public static void toEpochDays(final int[] packedDates, final int[] epochDays) {
+
+		validateLengths(packedDates.length, epochDays.length);
+		for (int i = 0; i < packedDates.length; i++) {
+			epochDays[i] = toEpochDay(packedDates[i]);
+		}
+	}
+
+
+	/**
+	 * Returns the count of days between the 2 (valid) dates.
+	 * <p>
+	 * nb: Unlike Date.daysBetween, the result is negative if the end date is before the start date.
+	 *
+	 * @return the count of days from start, to end
+	 */
+	public static long daysBetween(final int startPackedDate, final int endPackedDate) {
+
+		return (long) toEpochDay(endPackedDate) - toEpochDay(startPackedDate);
+	}
+
+
+	/**
+	 * Calculates the days between each pair of (valid) dates, see daysBetween(int, int)
+	 *
+	 * @param startPackedDates start dates
+	 * @param endPackedDates   end dates, at the same index as the start date
+	 * @param daysBetween      set to the count of days between each pair
+	 */
+	public static void daysBetween(final int[] startPackedDates, final int[] endPackedDates, final long[] daysBetween) {
+
+		validateLengths(startPackedDates.length, endPackedDates.length);
+		validateLengths(startPackedDates.length, daysBetween.length);
+		for (int i = 0; i < startPackedDates.length; i++) {
+			daysBetween[i] = daysBetween(startPackedDates[i], endPackedDates[i]);
+		}
+	}
+
+
+	static void validateLengths(final int length, final int thatLength) {
+
+		if (length != thatLength) {
+			throw new IllegalArgumentException(String.format(ARRAY_LENGTH_MISMATCH_ERROR, length, thatLength));
+		}
+	}
+}
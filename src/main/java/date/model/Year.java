@@ -4,6 +4,7 @@ import date.annotations.VisibleForTesting;
 
 import java.util.Objects;
 
+import static date.model.Period.DAY;
 import static date.model.Period.LEAP_YEAR;
 import static date.model.Period.YEAR;
 
@@ -28,6 +29,9 @@ final class Year {
 	@VisibleForTesting
 	static final String YEAR_RANGE_NEGATIVE_OR_ZERO_ERROR = "The year range provided cannot contain a value of 0 or less.";
 
+	@VisibleForTesting
+	static final String YEAR_RANGE_TOO_WIDE_ERROR = "The maximum year parameter, %s, cannot be after %s";
+
 	@VisibleForTesting
 	static final String MIN_YEAR_GREATER_THAN_MAX_YEAR_ERROR = "The minimum year parameter, %s, must be lower than the maximum year parameter, %s";
 
@@ -37,14 +41,13 @@ final class Year {
 	@VisibleForTesting
 	static final int DEFAULT_MAX_YEAR = 2010;
 
-	@VisibleForTesting
-	final int minYear;
-
-	@VisibleForTesting
-	final int maxYear;
-
 	private final int year;
 
+	/**
+	 * Shared range policy, see YearRange
+	 */
+	private final YearRange range;
+
 
 	public Year(final String yearStr, final int minYear, final int maxYear) {
 
@@ -58,7 +61,7 @@ final class Year {
 	 * @param yearStr
 	 */
 	public Year(final String yearStr) {
-		this(getYearFromString(yearStr), DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+		this(getYearFromString(yearStr), YearRange.DEFAULT);
 	}
 
 	/**
@@ -67,23 +70,32 @@ final class Year {
 	 * @param year
 	 */
 	public Year(final int year) {
-		this(year, DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+		this(year, YearRange.DEFAULT);
 	}
 
 
 	/**
-	 * Actual constructor, sets the year, minYear and maxYear
+	 * Sets the year, validated against the range minYear .. maxYear
 	 * @param year
 	 * @param minYear
 	 * @param maxYear
 	 */
 	public Year(final int year, final int minYear, final int maxYear) {
 
-		this.year = year;
-		this.minYear = minYear;
-		this.maxYear = maxYear;
+		this(year, YearRange.of(minYear, maxYear));
+	}
+
 
-		validateYearRange(this.minYear, this.maxYear);
+	/**
+	 * Sets the year, validated against the given (shared) range
+	 *
+	 * @param year  year to be set
+	 * @param range range of valid years
+	 */
+	Year(final int year, final YearRange range) {
+
+		this.year = year;
+		this.range = range;
 		validateYear(this.year);
 	}
 
@@ -186,18 +198,14 @@ final class Year {
 
 	/**
 	 * Retrieve the count of seconds from year 0 to this year
+	 * <p>
+	 * nb: Uses the closed form EpochDay calculation (Includes leap years), rather than a loop over each year.
 	 *
 	 * @return the count of seconds expended, from year 0, until the current year
 	 */
 	public long getTotalSecondsSinceEpoch() {
 
-		long totalSeconds = 0;
-
-		//Get a total of the seconds (nb: Includes leap years)
-		for (int i=0; i<this.year; i++) {
-			totalSeconds += getSecondsInYear(i);
-		}
-		return totalSeconds;
+		return EpochDay.daysBeforeYear(this.year) * DAY.getSeconds();
 	}
 
 
@@ -213,8 +221,8 @@ final class Year {
 		if (year <= 0) {
 			errorMsg = YEAR_NEGATIVE_OR_ZERO_ERROR;
 		} else {
-			if (year < minYear || year > maxYear) {
-				errorMsg = String.format(YEAR_RANGE_ERROR, year, minYear, maxYear);
+			if (!range.contains(year)) {
+				errorMsg = String.format(YEAR_RANGE_ERROR, year, range.getMinYear(), range.getMaxYear());
 			}
 		}
 
@@ -224,31 +232,23 @@ final class Year {
 	}
 
 
-	/**
-	 * Validate that the min and max years
-	 *
-	 * @throws java.lang.IllegalArgumentException
-	 */
-	private void validateYearRange(final int minYear, final int maxYear) throws IllegalArgumentException {
+	public int getYear() {
+		return this.year;
+	}
 
-		String errorMsg = null;
 
-		if (minYear <= 0 || maxYear <= 0) {
-			errorMsg = YEAR_RANGE_NEGATIVE_OR_ZERO_ERROR;
-		}
+	int getMinYear() {
+		return range.getMinYear();
+	}
 
-		if (minYear > maxYear) {
-			errorMsg += String.format(MIN_YEAR_GREATER_THAN_MAX_YEAR_ERROR, minYear, maxYear);
-		}
 
-		if (null != errorMsg) {
-			throw new IllegalArgumentException(errorMsg);
-		}
+	int getMaxYear() {
+		return range.getMaxYear();
 	}
 
 
-	public int getYear() {
-		return this.year;
+	YearRange getRange() {
+		return range;
 	}
 
 
@@ -276,9 +276,8 @@ final class Year {
 
 		Year year1 = (Year) o;
 
-		if (maxYear != year1.maxYear) return false;
-		if (minYear != year1.minYear) return false;
 		if (year != year1.year) return false;
+		if (!range.equals(year1.range)) return false;
 
 		return true;
 	}
@@ -286,6 +285,6 @@ final class Year {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(year, minYear, maxYear);
+		return Objects.hash(year, range);
 	}
 }
@@ -0,0 +1,150 @@
+package date.model;
+
+import static date.model.Year.DEFAULT_MAX_YEAR;
+import static date.model.Year.DEFAULT_MIN_YEAR;
+import static date.model.Year.MIN_YEAR_GREATER_THAN_MAX_YEAR_ERROR;
+import static date.model.Year.YEAR_RANGE_NEGATIVE_OR_ZERO_ERROR;
+import static date.model.Year.YEAR_RANGE_TOO_WIDE_ERROR;
+
+/**
+ * The range of years, (inclusive), that dates are validated against.
+ * <p>
+ * Immutable, and shared, rather than each Year holding its own copy of the min and max year.
+ * Dates parsed without a range use DEFAULT, i.e. 1900 - 2010.
+ * <p>
+ * Historical, or future, dates are parsed with a wider range, e.g. new Date("01 01 0001", YearRange.FULL)
+ * <p>
+ * Years are limited to 4 digits, (the YYYY in "DD MM YYYY"), so the widest range is 0001 - 9999.
+ * The calculations on dates are closed form, so the cost is the same for any year in the range.
+ */
+public final class YearRange {
+
+	/**
+	 * Latest year that can be represented
+	 */
+	public static final int MAX_SUPPORTED_YEAR = 9999;
+
+	public static final YearRange DEFAULT = new YearRange(DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+
+	/**
+	 * All the years that can be represented, 0001 - 9999
+	 */
+	public static final YearRange FULL = new YearRange(1, MAX_SUPPORTED_YEAR);
+
+	private final int minYear;
+	private final int maxYear;
+
+	/**
+	 * Epoch days of the 1st of January of the min year, and the 31st of December of the max year, see EpochDay
+	 */
+	private final int firstEpochDay;
+	private final int lastEpochDay;
+
+
+	private YearRange(final int minYear, final int maxYear) {
+
+		validateYearRange(minYear, maxYear);
+		this.minYear = minYear;
+		this.maxYear = maxYear;
+		this.firstEpochDay = EpochDay.daysBeforeYear(minYear);
+		this.lastEpochDay = EpochDay.daysBeforeYear(maxYear + 1) - 1;
+	}
+
+
+	/**
+	 * @param minYear earliest valid year
+	 * @param maxYear latest valid year
+	 * @return the range, the shared DEFAULT or FULL range is returned for their min and max years
+	 * @throws IllegalArgumentException if either year is 0 or less, the min year is after the max year,
+	 *                                  or the max year is after MAX_SUPPORTED_YEAR
+	 */
+	public static YearRange of(final int minYear, final int maxYear) throws IllegalArgumentException {
+
+		if (minYear == DEFAULT_MIN_YEAR && maxYear == DEFAULT_MAX_YEAR) {
+			return DEFAULT;
+		}
+		if (minYear == 1 && maxYear == MAX_SUPPORTED_YEAR) {
+			return FULL;
+		}
+		return new YearRange(minYear, maxYear);
+	}
+
+
+	public int getMinYear() {
+
+		return minYear;
+	}
+
+
+	public int getMaxYear() {
+
+		return maxYear;
+	}
+
+
+	/**
+	 * @return true, if the epoch day, (see Date.getEpochDay), is a date within this range
+	 */
+	public boolean containsEpochDay(final long epochDay) {
+
+		return epochDay >= firstEpochDay && epochDay <= lastEpochDay;
+	}
+
+
+	/**
+	 * @return true, if the year is within this range
+	 */
+	public boolean contains(final int year) {
+
+		return year >= minYear && year <= maxYear;
+	}
+
+
+	/**
+	 * Validate the min and max years, the message is for the first check that fails
+	 *
+	 * @throws java.lang.IllegalArgumentException if either year is 0 or less, the min year is after the max year,
+	 *                                            or the max year is after MAX_SUPPORTED_YEAR
+	 */
+	private static void validateYearRange(final int minYear, final int maxYear) throws IllegalArgumentException {
+
+		String errorMsg = null;
+
+		if (minYear <= 0 || maxYear <= 0) {
+			errorMsg = YEAR_RANGE_NEGATIVE_OR_ZERO_ERROR;
+		} else if (minYear > maxYear) {
+			errorMsg = String.format(MIN_YEAR_GREATER_THAN_MAX_YEAR_ERROR, minYear, maxYear);
+		} else if (maxYear > MAX_SUPPORTED_YEAR) {
+			errorMsg = String.format(YEAR_RANGE_TOO_WIDE_ERROR, maxYear, MAX_SUPPORTED_YEAR);
+		}
+
+		if (null != errorMsg) {
+			throw new IllegalArgumentException(errorMsg);
+		}
+	}
+
+
+	@Override
+	public boolean equals(final Object o) {
+
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		final YearRange that = (YearRange) o;
+		return minYear == that.minYear && maxYear == that.maxYear;
+	}
+
+
+	@Override
+	public int hashCode() {
+
+		return 31 * minYear + maxYear;
+	}
+
+
+	@Override
+	public String toString() {
+
+		return String.format("%04d .. %04d", minYear, maxYear);
+	}
+}
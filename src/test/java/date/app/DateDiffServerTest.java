@@ -0,0 +1,320 @@
+package date.app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateDiffServerTest {
+
+	private static final int TIMEOUT_MILLIS = 10_000;
+
+	private DateDiffServer server;
+
+
+	@Before
+	public void setUp() throws Exception {
+
+		server = DateDiffServer.start(0);
+	}
+
+
+	@After
+	public void tearDown() throws Exception {
+
+		server.close();
+	}
+
+
+	private Socket connect() throws IOException {
+
+		final Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+		socket.setSoTimeout(TIMEOUT_MILLIS);
+		return socket;
+	}
+
+
+	private static BufferedReader readerFor(final Socket socket) throws IOException {
+
+		return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+	}
+
+
+	private static void send(final Socket socket, final String text) throws IOException {
+
+		final OutputStream out = socket.getOutputStream();
+		out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+		out.flush();
+	}
+
+
+	@Test
+	public void given_a_date_pair_line_then_the_ordered_pair_and_difference_are_returned() throws Exception {
+
+		try (Socket socket = connect()) {
+			final BufferedReader reader = readerFor(socket);
+
+			send(socket, "1 1 2000, 31 12 1999\n");
+			assertThat(reader.readLine(), is(equalTo("31 12 1999, 01 01 2000, 1")));
+
+			send(socket, "25 12 2000, 26 12 2000\r\n");
+			assertThat(reader.readLine(), is(equalTo("25 12 2000, 26 12 2000, 1")));
+		}
+	}
+
+
+	@Test
+	public void given_pipelined_lines_then_a_result_is_returned_for_each_in_order() throws Exception {
+
+		final StringBuilder requests = new StringBuilder();
+		for (int day = 1; day <= 28; day++) {
+			requests.append("01 02 2000, ").append(day).append(" 02 2000\n");
+		}
+		requests.append("32 01 2000, 01 01 2000\n\n");
+		requests.append("01 01 2000 01 01 2000\n");
+
+		try (Socket socket = connect()) {
+			send(socket, requests.toString());
+			socket.shutdownOutput();
+
+			final BufferedReader reader = readerFor(socket);
+			for (int day = 1; day <= 28; day++) {
+				assertThat(reader.readLine(), is(equalTo(String.format("01 02 2000, %02d 02 2000, %d", day, day - 1))));
+			}
+			assertThat(reader.readLine(), is(equalTo(DateDiffServer.ERROR_PREFIX + "Day [32] is not a valid month day in JANUARY, 2000")));
+			assertThat(reader.readLine(), is(equalTo(DateDiffServer.ERROR_PREFIX
+					+ String.format(DatePairLine.INVALID_DATE_PAIR_ERROR, "01 01 2000 01 01 2000"))));
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void given_lines_ended_by_a_carriage_return_then_each_is_answered() throws Exception {
+
+		try (Socket socket = connect()) {
+			send(socket, "01 01 2000, 02 01 2000\r01 01 2000, 03 01 2000\r\r\n01 01 2000, 04 01 2000\r\n");
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), is(equalTo("01 01 2000, 02 01 2000, 1")));
+			assertThat(reader.readLine(), is(equalTo("01 01 2000, 03 01 2000, 2")));
+			assertThat(reader.readLine(), is(equalTo("01 01 2000, 04 01 2000, 3")));
+		}
+	}
+
+
+	@Test
+	public void given_a_line_longer_than_the_max_then_an_error_is_returned_and_the_connection_is_closed() throws Exception {
+
+		try (Socket socket = connect()) {
+			send(socket, "01 01 2000, 02 01 2000\n" + repeat('1', DateDiffServer.MAX_LINE_LENGTH + 1));
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), is(equalTo("01 01 2000, 02 01 2000, 1")));
+			assertThat(reader.readLine(), is(equalTo(DateDiffServer.ERROR_PREFIX + DateDiffServer.LINE_TOO_LONG_ERROR)));
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+		try (Socket socket = connect()) {
+			send(socket, repeat(' ', DateDiffServer.MAX_LINE_LENGTH + 1));
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), is(equalTo(DateDiffServer.ERROR_PREFIX + DateDiffServer.LINE_TOO_LONG_ERROR)));
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void given_an_http_header_longer_than_the_max_then_an_error_status_is_returned() throws Exception {
+
+		try (Socket socket = connect()) {
+			send(socket, "POST /diff HTTP/1.1\r\nX-Padding: " + repeat('a', DateDiffServer.MAX_LINE_LENGTH));
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), is(equalTo("HTTP/1.1 431 Request Header Fields Too Large")));
+			assertThat(readHttpBody(reader), is(equalTo(DateDiffServer.LINE_TOO_LONG_ERROR)));
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void given_an_http_post_then_the_results_are_returned_as_the_body() throws Exception {
+
+		final String body = "01 01 2000, 01 02 2000\r\n01 01 2000, 01 13 2000\r\n";
+		try (Socket socket = connect()) {
+			send(socket, "POST /diff HTTP/1.1\r\nHost: localhost\r\nContent-Length: " + body.length() + "\r\n\r\n" + body);
+
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), is(equalTo("HTTP/1.1 200 OK")));
+			final String expectedBody = "01 01 2000, 01 02 2000, 31\n" + DateDiffServer.ERROR_PREFIX + "Invalid Month value, [13], provided\n";
+			assertThat(readHttpBody(reader), is(equalTo(expectedBody)));
+
+			//Kept alive, for the next request
+			send(socket, "POST /diff HTTP/1.1\r\nConnection: close\r\nContent-Length: 22\r\n\r\n01 01 2000, 02 01 2000");
+			assertThat(reader.readLine(), is(equalTo("HTTP/1.1 200 OK")));
+			assertThat(readHttpBody(reader), is(equalTo("01 01 2000, 02 01 2000, 1\n")));
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void given_an_http_request_other_than_a_post_to_diff_then_an_error_status_is_returned() throws Exception {
+
+		try (Socket socket = connect()) {
+			send(socket, "GET /diff HTTP/1.1\r\n\r\n");
+			assertThat(readerFor(socket).readLine(), is(equalTo("HTTP/1.1 405 Method Not Allowed")));
+		}
+		try (Socket socket = connect()) {
+			send(socket, "POST /other HTTP/1.1\r\nContent-Length: 0\r\nConnection: close\r\n\r\n");
+			assertThat(readerFor(socket).readLine(), is(equalTo("HTTP/1.1 404 Not Found")));
+		}
+		try (Socket socket = connect()) {
+			send(socket, "POST /diff HTTP/1.1\r\n\r\n");
+			assertThat(readerFor(socket).readLine(), is(equalTo("HTTP/1.1 411 Length Required")));
+		}
+		try (Socket socket = connect()) {
+			send(socket, "POST /diff HTTP/1.1\r\nContent-Length: " + (DateDiffServer.MAX_BODY_LENGTH + 1) + "\r\n\r\n");
+			assertThat(readerFor(socket).readLine(), is(equalTo("HTTP/1.1 413 Payload Too Large")));
+		}
+	}
+
+
+	@Test
+	public void given_many_concurrent_connections_then_each_is_answered() throws Exception {
+
+		final int connectionCount = 64;
+		final ExecutorService clients = Executors.newFixedThreadPool(16);
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < connectionCount; i++) {
+				final int day = i % 28 + 1;
+				results.add(clients.submit((Callable<String>) () -> {
+					try (Socket socket = connect()) {
+						send(socket, String.format("01 03 2004, %02d 02 2004\n", day));
+						return readerFor(socket).readLine();
+					}
+				}));
+			}
+			for (int i = 0; i < connectionCount; i++) {
+				final int day = i % 28 + 1;
+				assertThat(results.get(i).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+						is(equalTo(String.format("%02d 02 2004, 01 03 2004, %d", day, 30 - day))));
+			}
+		} finally {
+			clients.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void given_the_server_is_closed_then_open_connections_are_closed() throws Exception {
+
+		try (Socket socket = connect()) {
+			send(socket, "01 01 2000, 02 01 2000\n");
+			final BufferedReader reader = readerFor(socket);
+			assertThat(reader.readLine(), containsString(", 1"));
+
+			server.close();
+			String line;
+			try {
+				line = reader.readLine();
+			} catch (IOException e) {
+				//Connection reset, rather than an orderly close
+				line = null;
+			}
+			assertThat(line, is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void given_the_server_is_closed_while_clients_connect_then_every_connection_is_closed() throws Exception {
+
+		final int connectionCount = 200;
+		final ExecutorService clients = Executors.newFixedThreadPool(16);
+		final CountDownLatch someConnected = new CountDownLatch(16);
+		try {
+			final List<Future<Boolean>> closedByServer = new ArrayList<>();
+			for (int i = 0; i < connectionCount; i++) {
+				closedByServer.add(clients.submit(() -> {
+					try (Socket socket = connect()) {
+						someConnected.countDown();
+						return readerFor(socket).readLine() == null;
+					} catch (SocketTimeoutException e) {
+						//Accepted, but never closed
+						return false;
+					} catch (IOException e) {
+						//Refused, or reset, once the server is closed
+						someConnected.countDown();
+						return true;
+					}
+				}));
+			}
+
+			assertThat(someConnected.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(true));
+			server.close();
+			for (Future<Boolean> closed : closedByServer) {
+				assertThat(closed.get(TIMEOUT_MILLIS * 2, TimeUnit.MILLISECONDS), is(true));
+			}
+		} finally {
+			clients.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void given_request_lines_then_only_http_request_lines_are_detected_as_http() throws Exception {
+
+		assertThat(DateDiffServer.isHttpRequestLine("POST /diff HTTP/1.1"), is(true));
+		assertThat(DateDiffServer.isHttpRequestLine("GET / HTTP/1.0"), is(true));
+		assertThat(DateDiffServer.isHttpRequestLine("01 01 2000, 02 01 2000"), is(false));
+		assertThat(DateDiffServer.isHttpRequestLine("HTTP/1.1"), is(false));
+	}
+
+
+	private static String repeat(final char c, final int count) {
+
+		final char[] chars = new char[count];
+		Arrays.fill(chars, c);
+		return new String(chars);
+	}
+
+
+	private static String readHttpBody(final BufferedReader reader) throws IOException {
+
+		int contentLength = 0;
+		String header;
+		while (!(header = reader.readLine()).isEmpty()) {
+			if (header.startsWith("Content-Length: ")) {
+				contentLength = Integer.parseInt(header.substring("Content-Length: ".length()));
+			}
+		}
+		final char[] body = new char[contentLength];
+		int read = 0;
+		while (read < contentLength) {
+			read += reader.read(body, read, contentLength - read);
+		}
+		return new String(body);
+	}
+}
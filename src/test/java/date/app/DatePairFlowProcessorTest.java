@@ -0,0 +1,316 @@
+package date.app;
+
+import date.model.Date;
+import date.model.DateError;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DatePairFlowProcessorTest {
+
+	/**
+	 * Upstream that only emits when told to, and records the demand from the processor
+	 */
+	private static final class ManualUpstream implements Flow.Subscription {
+
+		private long requested;
+		private boolean cancelled;
+
+		@Override
+		public void request(final long n) {
+			requested += n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+
+	/**
+	 * Subscriber that records every signal, and only requests when told to
+	 */
+	private static final class RecordingSubscriber implements Flow.Subscriber<DateDiffResult> {
+
+		private final List<DateDiffResult> results = new ArrayList<>();
+		private final CountDownLatch terminated = new CountDownLatch(1);
+		private Flow.Subscription subscription;
+		private volatile Throwable error;
+		private volatile boolean completed;
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(final DateDiffResult item) {
+			results.add(item);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error = throwable;
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			terminated.countDown();
+		}
+	}
+
+
+	@Test
+	public void given_lines_then_a_result_is_published_for_each_in_order_and_bad_lines_are_error_results() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines();
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		final ManualUpstream upstream = new ManualUpstream();
+		processor.onSubscribe(upstream);
+		processor.onNext("1 1 2000, 31 12 1999");
+		processor.onNext("01 01 2000, 01 13 2000");
+		processor.onNext("01 01 2000 01 01 2000");
+		processor.onNext("");
+		processor.onNext("25 12 2000,26 12 2000");
+		processor.onComplete();
+
+		assertThat(subscriber.results.size(), is(equalTo(5)));
+		assertThat(subscriber.results.get(0).toString(), is(equalTo("31 12 1999, 01 01 2000, 1")));
+		assertThat(subscriber.results.get(0).getDays(), is(equalTo(1L)));
+		assertThat(subscriber.results.get(1).isValid(), is(false));
+		assertThat(subscriber.results.get(1).getError(), is(equalTo(DateError.INVALID_MONTH)));
+		assertThat(subscriber.results.get(2).getError(), is(equalTo(DateError.INVALID_FORMAT)));
+		assertThat(subscriber.results.get(2).getErrorMessage(),
+				is(equalTo(String.format(DatePairLine.INVALID_DATE_PAIR_ERROR, "01 01 2000 01 01 2000"))));
+		assertThat(subscriber.results.get(3).getError(), is(equalTo(DateError.INVALID_FORMAT)));
+		assertThat(subscriber.results.get(4).getEnd(), is(equalTo(new Date("26 12 2000"))));
+		assertThat(subscriber.completed, is(true));
+	}
+
+
+	@Test
+	public void given_date_pairs_then_the_earliest_date_is_first_and_nulls_are_error_results() throws Exception {
+
+		final DatePairFlowProcessor<Map.Entry<Date, Date>> processor = DatePairFlowProcessor.forDatePairs();
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+		subscriber.subscription.request(2);
+
+		processor.onSubscribe(new ManualUpstream());
+		processor.onNext(new AbstractMap.SimpleImmutableEntry<>(new Date("01 03 2004"), new Date("01 02 2004")));
+		processor.onNext(new AbstractMap.SimpleImmutableEntry<>(new Date("01 03 2004"), null));
+		processor.onComplete();
+
+		assertThat(subscriber.results.get(0).getStart(), is(equalTo(new Date("01 02 2004"))));
+		assertThat(subscriber.results.get(0).getDays(), is(equalTo(29L)));
+		assertThat(subscriber.results.get(1).getError(), is(equalTo(DateError.INVALID_FORMAT)));
+		assertThat(subscriber.results.get(1).getStart(), is(nullValue()));
+		assertThat(subscriber.completed, is(true));
+	}
+
+
+	@Test
+	public void given_a_slow_subscriber_then_upstream_is_only_asked_for_the_buffer_size_ahead_of_demand() throws Exception {
+
+		final int bufferSize = 8;
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines(bufferSize);
+		final ManualUpstream upstream = new ManualUpstream();
+		processor.onSubscribe(upstream);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+
+		assertThat(upstream.requested, is(equalTo((long) bufferSize)));
+		for (int i = 0; i < bufferSize; i++) {
+			processor.onNext("01 01 2000, 02 01 2000");
+		}
+		assertThat(subscriber.results.size(), is(equalTo(0)));
+
+		//Nothing more is requested until half of the buffer has been delivered
+		subscriber.subscription.request(bufferSize / 2 - 1);
+		assertThat(subscriber.results.size(), is(equalTo(bufferSize / 2 - 1)));
+		assertThat(upstream.requested, is(equalTo((long) bufferSize)));
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.results.size(), is(equalTo(bufferSize / 2)));
+		assertThat(upstream.requested, is(equalTo((long) bufferSize + bufferSize / 2)));
+
+		//Completion waits for the buffered results to be requested
+		processor.onComplete();
+		assertThat(subscriber.completed, is(false));
+		subscriber.subscription.request(bufferSize);
+		assertThat(subscriber.results.size(), is(equalTo(bufferSize)));
+		assertThat(subscriber.completed, is(true));
+	}
+
+
+	@Test
+	public void given_an_upstream_error_then_the_buffered_results_are_delivered_before_the_error() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines();
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+		processor.onSubscribe(new ManualUpstream());
+
+		processor.onNext("01 01 2000, 02 01 2000");
+		final IllegalStateException failure = new IllegalStateException("read failed");
+		processor.onError(failure);
+		assertThat(subscriber.error, is(nullValue()));
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.results.size(), is(equalTo(1)));
+		assertThat(subscriber.error, is(equalTo((Throwable) failure)));
+	}
+
+
+	@Test
+	public void given_a_second_subscriber_then_it_is_sent_an_error() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines();
+		processor.subscribe(new RecordingSubscriber());
+		final RecordingSubscriber second = new RecordingSubscriber();
+		processor.subscribe(second);
+
+		assertThat(second.error, is(instanceOf(IllegalStateException.class)));
+		assertThat(second.error.getMessage(), is(equalTo(DatePairFlowProcessor.ALREADY_SUBSCRIBED_ERROR)));
+	}
+
+
+	@Test
+	public void given_a_request_of_0_then_upstream_is_cancelled_and_the_subscriber_is_sent_an_error() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines();
+		final ManualUpstream upstream = new ManualUpstream();
+		processor.onSubscribe(upstream);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+
+		subscriber.subscription.request(0);
+		assertThat(upstream.cancelled, is(true));
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+	}
+
+
+	@Test
+	public void given_a_request_of_0_with_results_buffered_then_the_error_is_sent_straight_away() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines(4);
+		final ManualUpstream upstream = new ManualUpstream();
+		processor.onSubscribe(upstream);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+
+		processor.onNext("01 01 2000, 02 01 2000");
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.terminated.await(1, TimeUnit.SECONDS), is(true));
+		assertThat(upstream.cancelled, is(true));
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+		assertThat(subscriber.error.getMessage(), is(equalTo(String.format(DatePairFlowProcessor.NON_POSITIVE_REQUEST_ERROR, 0))));
+		assertThat(subscriber.results.size(), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_a_request_of_0_after_upstream_has_completed_then_the_error_is_still_sent() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines(4);
+		processor.onSubscribe(new ManualUpstream());
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+
+		processor.onNext("01 01 2000, 02 01 2000");
+		processor.onComplete();
+		subscriber.subscription.request(-1);
+
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+		assertThat(subscriber.completed, is(false));
+		assertThat(subscriber.results.size(), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_the_subscriber_cancels_then_upstream_is_cancelled_and_nothing_more_is_delivered() throws Exception {
+
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines();
+		final ManualUpstream upstream = new ManualUpstream();
+		processor.onSubscribe(upstream);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		processor.subscribe(subscriber);
+		subscriber.subscription.request(10);
+
+		subscriber.subscription.cancel();
+		processor.onNext("01 01 2000, 02 01 2000");
+		processor.onComplete();
+
+		assertThat(upstream.cancelled, is(true));
+		assertThat(subscriber.results.size(), is(equalTo(0)));
+		assertThat(subscriber.completed, is(false));
+	}
+
+
+	@Test
+	public void given_an_async_publisher_and_a_subscriber_requesting_one_at_a_time_then_every_result_arrives_in_order() throws Exception {
+
+		final int count = 20_000;
+		final DatePairFlowProcessor<CharSequence> processor = DatePairFlowProcessor.forLines(16);
+		final List<DateDiffResult> results = new ArrayList<>();
+		final CountDownLatch completed = new CountDownLatch(1);
+
+		processor.subscribe(new Flow.Subscriber<DateDiffResult>() {
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(final DateDiffResult item) {
+				results.add(item);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onError(final Throwable throwable) {
+			}
+
+			@Override
+			public void onComplete() {
+				completed.countDown();
+			}
+		});
+
+		try (SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>()) {
+			publisher.subscribe(processor);
+			for (int i = 0; i < count; i++) {
+				publisher.submit("01 01 2000, " + (i % 28 + 1) + " 02 2000");
+			}
+		}
+
+		assertThat(completed.await(30, TimeUnit.SECONDS), is(true));
+		assertThat(results.size(), is(equalTo(count)));
+		for (int i = 0; i < count; i++) {
+			assertThat(results.get(i).getDays(), is(equalTo((long) 31 + i % 28)));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package date.app;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DatePairProcessorTest {
+
+	private static final String NL = System.lineSeparator();
+
+	private final StringWriter output = new StringWriter();
+	private final StringWriter errors = new StringWriter();
+
+
+	private long process(final String input) throws Exception {
+		return DatePairProcessor.process(new StringReader(input), output, errors);
+	}
+
+
+	@Test
+	public void given_an_ordered_date_pair_then_output_the_pair_and_the_difference() throws Exception {
+
+		assertThat(process("25 12 2000, 26 12 2000"), is(equalTo(0L)));
+		assertThat(output.toString(), is(equalTo("25 12 2000, 26 12 2000, 1" + NL)));
+	}
+
+
+	@Test
+	public void given_an_unordered_date_pair_then_output_the_earliest_date_first() throws Exception {
+
+		process("1 1 2000, 31 12 1999");
+		assertThat(output.toString(), is(equalTo("31 12 1999, 01 01 2000, 1" + NL)));
+	}
+
+
+	@Test
+	public void given_multiple_lines_then_output_a_line_for_each_and_skip_blank_lines() throws Exception {
+
+		process("01 01 1900, 31 12 2010\n\n28 12 1971,28 12 1971\r\n25 12 1999, 25 12 2000\n");
+		final String expected = "01 01 1900, 31 12 2010, 40541" + NL
+				+ "28 12 1971, 28 12 1971, 0" + NL
+				+ "25 12 1999, 25 12 2000, 366" + NL;
+		assertThat(output.toString(), is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_invalid_lines_then_report_them_with_their_line_number_and_continue() throws Exception {
+
+		final long invalidLines = process("01 01 1900\n29 02 2001, 01 01 2000\n01 01 2000, 02 01 2000");
+
+		assertThat(invalidLines, is(equalTo(2L)));
+		assertThat(output.toString(), is(equalTo("01 01 2000, 02 01 2000, 1" + NL)));
+		assertThat(errors.toString(), containsString("line 1: " + String.format(DatePairLine.INVALID_DATE_PAIR_ERROR, "01 01 1900")));
+		assertThat(errors.toString(), containsString("line 2: Day [29] is not a valid month day in FEBRUARY, 2001"));
+	}
+}
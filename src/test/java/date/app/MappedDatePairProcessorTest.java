@@ -0,0 +1,125 @@
+package date.app;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MappedDatePairProcessorTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+
+	/**
+	 * Builds an input file of date pairs, with the occasional invalid, blank and \r\n terminated line.
+	 */
+	private String buildInput(final int lines) {
+
+		final StringBuilder sb = new StringBuilder();
+		LocalDate start = LocalDate.of(1900, 1, 1);
+		for (int i = 0; i < lines; i++) {
+			final LocalDate end = start.plusDays(i * 7L % 3000);
+			if (i % 17 == 0) {
+				sb.append("31 02 2000, 01 01 2000\n");
+			} else if (i % 23 == 0) {
+				sb.append("\n");
+			} else {
+				sb.append(String.format("%d %d %d, %02d %02d %04d", end.getDayOfMonth(), end.getMonthValue(), end.getYear(),
+						start.getDayOfMonth(), start.getMonthValue(), start.getYear()));
+				sb.append(i % 5 == 0 ? "\r\n" : "\n");
+			}
+			start = start.plusDays(11);
+		}
+		return sb.toString();
+	}
+
+
+	@Test
+	public void given_a_file_split_into_many_chunks_then_the_output_matches_the_streaming_processor() throws Exception {
+
+		final String input = buildInput(2000);
+		final File file = folder.newFile("pairs.txt");
+		Files.write(file.toPath(), input.getBytes(StandardCharsets.US_ASCII));
+
+		final StringWriter expectedOutput = new StringWriter();
+		final StringWriter expectedErrors = new StringWriter();
+		final long expectedInvalid = DatePairProcessor.process(new StringReader(input), expectedOutput, expectedErrors);
+
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final StringWriter errors = new StringWriter();
+		final int chunkSize = 100;
+		final long invalid = MappedDatePairProcessor.process(file.toPath(), output, errors, 4, chunkSize);
+
+		assertThat(invalid, is(equalTo(expectedInvalid)));
+		assertThat(new String(output.toByteArray(), StandardCharsets.US_ASCII), is(equalTo(expectedOutput.toString())));
+		assertThat(errors.toString(), is(equalTo(expectedErrors.toString())));
+	}
+
+
+	@Test
+	public void given_mixed_line_separators_and_non_ascii_text_then_both_modes_report_the_same_lines_and_errors() throws Exception {
+
+		final String input = "01 01 2000, 02 01 2000\r"
+				+ "01 01 2000, 03 01 2000\r\n"
+				+ "\r"
+				+ "01 é1 2000, 01 01 2000\n"
+				+ "01 01 2000 – 01 01 2000\r\r\n"
+				+ "32 01 2000, 01 01 2000\r"
+				+ "01 01 2000, 04 01 2000";
+		final File file = folder.newFile("pairs.txt");
+		Files.write(file.toPath(), input.getBytes(StandardCharsets.UTF_8));
+
+		final StringWriter expectedOutput = new StringWriter();
+		final StringWriter expectedErrors = new StringWriter();
+		final long expectedInvalid = DatePairProcessor.process(new StringReader(input), expectedOutput, expectedErrors);
+		assertThat(expectedInvalid, is(equalTo(3L)));
+
+		//Every chunk size, so that a chunk boundary falls on each byte, including between \r and \n
+		for (int chunkSize = 1; chunkSize <= input.length(); chunkSize++) {
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final StringWriter errors = new StringWriter();
+			final long invalid = MappedDatePairProcessor.process(file.toPath(), output, errors, 2, chunkSize);
+
+			assertThat(invalid, is(equalTo(expectedInvalid)));
+			assertThat(new String(output.toByteArray(), StandardCharsets.US_ASCII), is(equalTo(expectedOutput.toString())));
+			assertThat("chunk size " + chunkSize, errors.toString(), is(equalTo(expectedErrors.toString())));
+		}
+	}
+
+
+	@Test
+	public void given_a_last_line_without_a_new_line_then_it_is_still_processed() throws Exception {
+
+		final File file = folder.newFile("pairs.txt");
+		Files.write(file.toPath(), "25 12 2000, 26 12 2000\n26 12 2000, 25 12 2000".getBytes(StandardCharsets.US_ASCII));
+
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MappedDatePairProcessor.process(file.toPath(), output, new StringWriter(), 2);
+
+		final String nl = System.lineSeparator();
+		final String expected = "25 12 2000, 26 12 2000, 1" + nl + "25 12 2000, 26 12 2000, 1" + nl;
+		assertThat(new String(output.toByteArray(), StandardCharsets.US_ASCII), is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_an_empty_file_then_nothing_is_written() throws Exception {
+
+		final File file = folder.newFile("empty.txt");
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertThat(MappedDatePairProcessor.process(file.toPath(), output, new StringWriter(), 2), is(equalTo(0L)));
+		assertThat(output.size(), is(equalTo(0)));
+	}
+}
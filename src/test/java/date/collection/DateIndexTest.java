@@ -0,0 +1,130 @@
+package date.collection;
+
+import date.model.Date;
+import date.model.YearRange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateIndexTest {
+
+	private final DateIndex index = new DateIndex(Arrays.asList(
+			new Date("30 06 1999"),
+			new Date("01 03 1995"),
+			new Date("15 08 1997"),
+			new Date("15 08 1997"),
+			new Date("28 02 1995"),
+			new Date("01 07 1999")));
+
+
+	@Test
+	public void given_an_inclusive_range_then_count_includes_both_ends_and_duplicates() throws Exception {
+
+		assertThat(index.count(new Date("01 03 1995"), new Date("30 06 1999")), is(equalTo(4)));
+		assertThat(index.count(new Date("01 01 1900"), new Date("31 12 2010")), is(equalTo(6)));
+		assertThat(index.count(new Date("02 03 1995"), new Date("14 08 1997")), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_a_reversed_range_then_count_is_zero() throws Exception {
+
+		assertThat(index.count(new Date("30 06 1999"), new Date("01 03 1995")), is(equalTo(0)));
+		assertThat(index.range(new Date("30 06 1999"), new Date("01 03 1995")).length, is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_a_range_then_the_epoch_days_are_returned_in_order() throws Exception {
+
+		final int[] expected = {
+				new Date("15 08 1997").getEpochDay(),
+				new Date("15 08 1997").getEpochDay(),
+				new Date("30 06 1999").getEpochDay()};
+		assertThat(index.range(new Date("01 08 1997"), new Date("30 06 1999")), is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_a_date_then_floor_and_ceiling_return_the_nearest_indexed_dates() throws Exception {
+
+		assertThat(index.floor(new Date("01 01 1998")), is(equalTo(new Date("15 08 1997"))));
+		assertThat(index.ceiling(new Date("01 01 1998")), is(equalTo(new Date("30 06 1999"))));
+		assertThat(index.floor(new Date("15 08 1997")), is(equalTo(new Date("15 08 1997"))));
+		assertThat(index.ceiling(new Date("15 08 1997")), is(equalTo(new Date("15 08 1997"))));
+	}
+
+
+	@Test
+	public void given_a_date_outside_the_index_then_floor_or_ceiling_is_null() throws Exception {
+
+		assertThat(index.floor(new Date("27 02 1995")), is(nullValue()));
+		assertThat(index.ceiling(new Date("02 07 1999")), is(nullValue()));
+		assertThat(new DateIndex(Collections.<Date>emptyList()).floor(new Date("02 07 1999")), is(nullValue()));
+	}
+
+
+	@Test
+	public void given_random_epoch_days_then_sort_matches_arrays_sort() throws Exception {
+
+		final Random random = new Random(1900);
+		final int firstDay = new Date("1 1 1900").getEpochDay();
+		final int[] epochDays = new int[10000];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = firstDay + random.nextInt(40000);
+		}
+		final int[] expected = epochDays.clone();
+		Arrays.sort(expected);
+
+		assertThat(DateIndex.fromEpochDays(epochDays).epochDays(), is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_a_span_too_wide_for_a_counting_sort_then_sort_still_orders_the_days() throws Exception {
+
+		final int[] epochDays = {DateIndex.MAX_COUNTING_SORT_SPAN * 2, 5, Integer.MAX_VALUE, -3, 5};
+		assertThat(DateIndex.sort(epochDays), is(equalTo(new int[]{-3, 5, 5, DateIndex.MAX_COUNTING_SORT_SPAN * 2, Integer.MAX_VALUE})));
+	}
+
+
+	@Test
+	public void given_dates_then_the_index_does_not_depend_on_the_collection_order() throws Exception {
+
+		final List<Date> dates = new ArrayList<>(Arrays.asList(new Date("01 01 2000"), new Date("01 01 1950"), new Date("01 01 1975")));
+		final DateIndex forward = new DateIndex(dates);
+		Collections.reverse(dates);
+		assertThat(new DateIndex(dates).epochDays(), is(equalTo(forward.epochDays())));
+		assertThat(forward.size(), is(equalTo(3)));
+	}
+
+
+	@Test
+	public void given_dates_outside_the_default_year_range_then_floor_and_ceiling_return_them() throws Exception {
+
+		final Date first = Date.of(1, 1, 1, YearRange.FULL);
+		final Date future = Date.of(1, 1, 2500, YearRange.FULL);
+		final DateIndex index = new DateIndex(Arrays.asList(first, new Date("25 12 2000"), future));
+
+		assertThat(index.floor(Date.of(1, 1, 3000, YearRange.FULL)), is(equalTo(future)));
+		assertThat(index.ceiling(Date.of(1, 1, 2011, YearRange.FULL)), is(equalTo(future)));
+		assertThat(index.floor(new Date("1 1 1900")), is(equalTo(first)));
+		assertThat(DateIndex.fromEpochDays(new int[]{future.getEpochDay()}).ceiling(first), is(equalTo(future)));
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_an_epoch_day_outside_the_full_year_range_then_fromEpochDays_throws_an_illegal_argument_exception() throws Exception {
+
+		DateIndex.fromEpochDays(new int[]{new Date("1 1 2000").getEpochDay(), -1});
+	}
+}
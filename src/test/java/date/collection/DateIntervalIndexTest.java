@@ -0,0 +1,107 @@
+package date.collection;
+
+import date.model.Date;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateIntervalIndexTest {
+
+	private final DateIntervalIndex index = new DateIntervalIndex(
+			new Date[]{new Date("01 01 2000"), new Date("15 01 2000"), new Date("31 12 2000"), new Date("01 06 1999")},
+			new Date[]{new Date("31 01 2000"), new Date("20 01 2000"), new Date("01 12 2000"), new Date("01 06 1999")});
+
+
+	@Test
+	public void given_a_date_then_the_intervals_containing_it_are_returned() throws Exception {
+
+		assertThat(index.containing(new Date("16 01 2000")), is(equalTo(new int[]{0, 1})));
+		assertThat(index.containing(new Date("31 01 2000")), is(equalTo(new int[]{0})));
+		assertThat(index.containing(new Date("01 06 1999")), is(equalTo(new int[]{3})));
+		assertThat(index.containing(new Date("01 01 2010")), is(equalTo(new int[0])));
+		assertThat(index.countContaining(new Date("16 01 2000")), is(equalTo(2)));
+	}
+
+
+	@Test
+	public void given_a_reversed_interval_then_it_is_swapped() throws Exception {
+
+		assertThat(index.containing(new Date("15 12 2000")), is(equalTo(new int[]{2})));
+	}
+
+
+	@Test
+	public void given_a_range_then_the_overlapping_intervals_are_returned_and_counted() throws Exception {
+
+		assertThat(index.overlapping(new Date("01 06 1999"), new Date("01 01 2000")), is(equalTo(new int[]{3, 0})));
+		assertThat(index.countOverlapping(new Date("01 06 1999"), new Date("01 01 2000")), is(equalTo(2)));
+		assertThat(index.countOverlapping(new Date("01 02 2000"), new Date("05 12 2000")), is(equalTo(1)));
+		assertThat(index.countOverlapping(new Date("01 01 2000"), new Date("01 06 1999")), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_random_intervals_then_the_queries_match_a_linear_scan() throws Exception {
+
+		final Random random = new Random(2010);
+		final int firstDay = new Date("01 01 1990").getEpochDay();
+		final int size = 2000;
+		final int[] starts = new int[size];
+		final int[] ends = new int[size];
+		for (int i = 0; i < size; i++) {
+			starts[i] = firstDay + random.nextInt(5000);
+			ends[i] = starts[i] + random.nextInt(random.nextBoolean() ? 10 : 1000);
+		}
+		final DateIntervalIndex randomIndex = DateIntervalIndex.fromEpochDays(starts, ends);
+
+		for (int query = 0; query < 500; query++) {
+			final int from = firstDay + random.nextInt(6000) - 500;
+			final int to = from + random.nextInt(200);
+
+			int expectedCount = 0;
+			for (int i = 0; i < size; i++) {
+				if (starts[i] <= to && ends[i] >= from) {
+					expectedCount++;
+				}
+			}
+
+			final int[] overlapping = randomIndex.overlapping(from, to);
+			assertThat(randomIndex.countOverlapping(from, to), is(equalTo(expectedCount)));
+			assertThat(overlapping.length, is(equalTo(expectedCount)));
+			for (int id : overlapping) {
+				assertThat(starts[id] <= to && ends[id] >= from, is(true));
+			}
+			assertThat(Arrays.stream(overlapping).distinct().count(), is(equalTo((long) expectedCount)));
+		}
+	}
+
+
+	@Test
+	public void given_a_range_from_the_min_int_then_count_overlapping_includes_every_interval_before_its_end() throws Exception {
+
+		final int to = new Date("16 01 2000").getEpochDay();
+		assertThat(index.countOverlapping(Integer.MIN_VALUE, to), is(equalTo(3)));
+		assertThat(index.overlapping(Integer.MIN_VALUE, to).length, is(equalTo(3)));
+		assertThat(index.countOverlapping(Integer.MIN_VALUE, Integer.MAX_VALUE), is(equalTo(4)));
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_an_epoch_day_outside_the_full_year_range_then_fromEpochDays_throws_an_illegal_argument_exception() throws Exception {
+
+		final int day = new Date("01 01 2000").getEpochDay();
+		DateIntervalIndex.fromEpochDays(new int[]{day, day}, new int[]{day, Integer.MIN_VALUE});
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_a_missing_end_date_then_throw_an_illegal_argument_exception() throws Exception {
+
+		DateIntervalIndex.fromEpochDays(new int[]{1, 2}, new int[]{3});
+	}
+}
@@ -0,0 +1,132 @@
+package date.collection;
+
+import date.model.Date;
+import date.model.YearRange;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DateMapTest {
+
+	@Test
+	public void given_a_date_key_then_get_returns_the_mapped_value() throws Exception {
+
+		final DateMap<String> map = new DateMap<>();
+		assertThat(map.put(new Date("25 12 2000"), "xmas"), is(nullValue()));
+		assertThat(map.put(new Date("26 12 2000"), "boxing day"), is(nullValue()));
+
+		assertThat(map.get(new Date("25 12 2000")), is(equalTo("xmas")));
+		assertThat(map.get(new Date("26 12 2000").getEpochDay()), is(equalTo("boxing day")));
+		assertThat(map.get(new Date("27 12 2000")), is(nullValue()));
+		assertThat(map.size(), is(equalTo(2)));
+	}
+
+
+	@Test
+	public void given_an_existing_key_then_put_replaces_and_returns_the_previous_value() throws Exception {
+
+		final DateMap<Integer> map = new DateMap<>();
+		map.put(new Date("1 1 1900"), 1);
+		assertThat(map.put(new Date("1 1 1900"), 2), is(equalTo(1)));
+		assertThat(map.get(new Date("1 1 1900")), is(equalTo(2)));
+		assertThat(map.size(), is(equalTo(1)));
+	}
+
+
+	@Test
+	public void given_random_puts_and_removes_then_the_map_matches_a_hash_map() throws Exception {
+
+		final Random random = new Random(1971);
+		final DateMap<Integer> map = new DateMap<>(0);
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final int firstDay = new Date("1 1 1900").getEpochDay();
+
+		for (int i = 0; i < 100000; i++) {
+			final int epochDay = firstDay + random.nextInt(2000);
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(epochDay), is(equalTo(expected.remove(epochDay))));
+			} else {
+				assertThat(map.put(epochDay, i), is(equalTo(expected.put(epochDay, i))));
+			}
+		}
+
+		assertThat(map.size(), is(equalTo(expected.size())));
+		for (int epochDay = firstDay; epochDay < firstDay + 2000; epochDay++) {
+			assertThat(map.containsKey(epochDay), is(equalTo(expected.containsKey(epochDay))));
+			assertThat(map.get(epochDay), is(equalTo(expected.get(epochDay))));
+		}
+		assertThat(map.epochDays().length, is(equalTo(expected.size())));
+	}
+
+
+	@Test
+	public void given_a_map_then_forEach_visits_each_date_and_value() throws Exception {
+
+		final DateMap<String> map = new DateMap<>();
+		map.put(new Date("25 12 2000"), "xmas");
+		map.put(new Date("1 1 2001"), "new year");
+
+		final Map<Date, String> visited = new HashMap<>();
+		map.forEach(visited::put);
+		assertThat(visited.get(new Date("25 12 2000")), is(equalTo("xmas")));
+		assertThat(visited.get(new Date("1 1 2001")), is(equalTo("new year")));
+		assertThat(visited.size(), is(equalTo(2)));
+	}
+
+
+	@Test
+	public void given_a_cleared_map_then_it_is_empty() throws Exception {
+
+		final DateMap<String> map = new DateMap<>();
+		map.put(new Date("25 12 2000"), "xmas");
+		map.clear();
+		assertThat(map.isEmpty(), is(true));
+		assertThat(map.containsKey(new Date("25 12 2000")), is(false));
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_the_empty_marker_as_a_key_then_throw_an_illegal_argument_exception() throws Exception {
+
+		new DateMap<String>().put(Integer.MIN_VALUE, "invalid");
+	}
+
+
+	@Test
+	public void given_dates_outside_the_default_year_range_then_forEach_visits_them() throws Exception {
+
+		final DateMap<String> map = new DateMap<>();
+		final Date firstDay = Date.of(1, 1, 1, YearRange.FULL);
+		final Date lastDay = Date.of(31, 12, 9999, YearRange.FULL);
+		map.put(firstDay, "first");
+		map.put(lastDay.getEpochDay(), "last");
+		map.put(new Date("25 12 2000"), "xmas");
+
+		final Map<Date, String> visited = new HashMap<>();
+		map.forEach(visited::put);
+		assertThat(visited.get(firstDay), is(equalTo("first")));
+		assertThat(visited.get(lastDay), is(equalTo("last")));
+		assertThat(visited.get(new Date("25 12 2000")), is(equalTo("xmas")));
+	}
+
+
+	@Test
+	public void given_an_epoch_day_outside_the_full_year_range_then_put_throws_an_illegal_argument_exception() throws Exception {
+
+		final int afterLastDay = Date.of(31, 12, 9999, YearRange.FULL).getEpochDay() + 1;
+		try {
+			new DateMap<String>().put(afterLastDay, "invalid");
+			fail("Expected an IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertThat(e.getMessage(), is(equalTo(String.format(EpochDays.EPOCH_DAY_OUT_OF_RANGE_ERROR, afterLastDay, YearRange.FULL))));
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package date.collection;
+
+import date.model.Date;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateSetTest {
+
+	@Test
+	public void given_a_date_when_added_then_the_set_contains_it_once() throws Exception {
+
+		final DateSet set = new DateSet();
+		assertThat(set.add(new Date("25 12 2000")), is(true));
+		assertThat(set.add(new Date("25 12 2000")), is(false));
+		assertThat(set.contains(new Date("25 12 2000")), is(true));
+		assertThat(set.contains(new Date("26 12 2000")), is(false));
+		assertThat(set.size(), is(equalTo(1)));
+	}
+
+
+	@Test
+	public void given_random_adds_and_removes_then_the_set_matches_a_hash_set() throws Exception {
+
+		final Random random = new Random(2000);
+		final DateSet set = new DateSet(0);
+		final Set<Integer> expected = new HashSet<>();
+		final int firstDay = new Date("1 1 1900").getEpochDay();
+
+		for (int i = 0; i < 100000; i++) {
+			final int epochDay = firstDay + random.nextInt(2000);
+			if (random.nextBoolean()) {
+				assertThat(set.remove(epochDay), is(equalTo(expected.remove(epochDay))));
+			} else {
+				assertThat(set.add(epochDay), is(equalTo(expected.add(epochDay))));
+			}
+		}
+
+		assertThat(set.size(), is(equalTo(expected.size())));
+		for (int epochDay = firstDay; epochDay < firstDay + 2000; epochDay++) {
+			assertThat(set.contains(epochDay), is(equalTo(expected.contains(epochDay))));
+		}
+		assertThat(set.epochDays().length, is(equalTo(expected.size())));
+	}
+
+
+	@Test
+	public void given_a_cleared_set_then_it_is_empty() throws Exception {
+
+		final DateSet set = new DateSet();
+		set.add(new Date("25 12 2000"));
+		set.clear();
+		assertThat(set.isEmpty(), is(true));
+	}
+}
@@ -0,0 +1,91 @@
+package date.collection;
+
+import date.model.Date;
+import date.model.PackedDates;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateSorterTest {
+
+	@Test
+	public void given_random_dates_then_the_sort_matches_arrays_sort() throws Exception {
+
+		final Date[] dates = randomDates(new Random(1900), 1000);
+		final Date[] expected = dates.clone();
+		Arrays.sort(expected);
+
+		DateSorter.sort(dates);
+		assertThat(dates, is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_enough_dates_to_sort_in_parallel_then_the_sort_matches_arrays_sort() throws Exception {
+
+		final Date[] dates = randomDates(new Random(2010), DateSorter.MIN_CHUNK_SIZE * 8);
+		final Date[] expected = dates.clone();
+		Arrays.sort(expected);
+
+		DateSorter.sort(dates);
+		assertThat(dates, is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_a_list_then_it_is_sorted_in_place() throws Exception {
+
+		final List<Date> dates = new ArrayList<>(Arrays.asList(randomDates(new Random(1971), 500)));
+		final List<Date> expected = new ArrayList<>(dates);
+		Collections.sort(expected);
+
+		DateSorter.sort(dates);
+		assertThat(dates, is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_equal_dates_then_the_original_order_is_kept() throws Exception {
+
+		final Date first = new Date("25 12 2000");
+		final Date second = new Date("25 12 2000");
+		final Date[] dates = {first, new Date("26 12 2000"), second, new Date("1 1 1900")};
+
+		DateSorter.sort(dates);
+		assertThat(dates[1], is(sameInstance(first)));
+		assertThat(dates[2], is(sameInstance(second)));
+	}
+
+
+	@Test
+	public void given_keys_spanning_the_full_int_range_then_the_items_are_sorted() throws Exception {
+
+		final int[] keys = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1 << 22, 7};
+		final Integer[] items = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1 << 22, 7};
+
+		DateSorter.sortByEpochDay(keys, items);
+		assertThat(keys, is(equalTo(new int[]{Integer.MIN_VALUE, -1, 0, 7, 1 << 22, Integer.MAX_VALUE})));
+		assertThat(items, is(equalTo(new Integer[]{Integer.MIN_VALUE, -1, 0, 7, 1 << 22, Integer.MAX_VALUE})));
+	}
+
+
+	private static Date[] randomDates(final Random random, final int count) {
+
+		final int firstDay = new Date("1 1 1900").getEpochDay();
+		final int span = new Date("31 12 2010").getEpochDay() - firstDay + 1;
+		final Date[] dates = new Date[count];
+		for (int i = 0; i < count; i++) {
+			dates[i] = PackedDates.toDate(PackedDates.fromEpochDay(firstDay + random.nextInt(span)));
+		}
+		return dates;
+	}
+}
@@ -0,0 +1,129 @@
+package date.metrics;
+
+import date.app.DatePairProcessor;
+import date.model.CalendarTable;
+import date.model.Date;
+import date.model.DateError;
+import date.model.DateParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateMetricsTest {
+
+	private final DateMetrics metrics = DateMetrics.getInstance();
+
+
+	@Before
+	public void setUp() throws Exception {
+
+		metrics.reset();
+		DateMetrics.setRecording(true);
+	}
+
+
+	@After
+	public void tearDown() throws Exception {
+
+		DateMetrics.setRecording(false);
+		metrics.reset();
+	}
+
+
+	@Test
+	public void given_metrics_on_then_parsed_and_rejected_dates_are_counted_by_error() throws Exception {
+
+		new Date("01 01 2000");
+		DateParser.tryParse("31 12 2010");
+		DateParser.tryParse("01 01 2011");
+		DateParser.tryParse("01 13 2000");
+		DateParser.tryParse("30 02 2000");
+		DateParser.tryParse("30-02-2000");
+		try {
+			new Date("32 01 2000");
+		} catch (IllegalArgumentException e) {
+			//Expected, counted as an invalid day
+		}
+
+		assertThat(metrics.getParsedCount(), is(equalTo(2L)));
+		assertThat(metrics.getRejectedCount(), is(equalTo(5L)));
+		assertThat(metrics.getInvalidYearCount(), is(equalTo(1L)));
+		assertThat(metrics.getInvalidMonthCount(), is(equalTo(1L)));
+		assertThat(metrics.getInvalidDayCount(), is(equalTo(2L)));
+		assertThat(metrics.getInvalidFormatCount(), is(equalTo(1L)));
+		assertThat(metrics.getRejectedCount(DateError.INVALID_DAY_OF_MONTH), is(equalTo(2L)));
+		assertThat(metrics.getRejectedCounts().get(DateError.YEAR_OUT_OF_RANGE.name()), is(equalTo(1L)));
+		assertThat(metrics.getParseMaxNanos() >= metrics.getParseMeanNanos(), is(true));
+	}
+
+
+	@Test
+	public void given_an_invalid_pair_through_the_pair_processor_then_the_rejection_is_recorded_once() throws Exception {
+
+		final StringWriter output = new StringWriter();
+		final StringWriter errors = new StringWriter();
+		DatePairProcessor.process(new StringReader("01 01 2000, 32 01 2000"), output, errors);
+
+		assertThat(metrics.getParsedCount(), is(equalTo(1L)));
+		assertThat(metrics.getRejectedCount(), is(equalTo(1L)));
+		assertThat(metrics.getRejectedCount(DateError.INVALID_DAY_OF_MONTH), is(equalTo(1L)));
+		assertThat(errors.toString().contains("Day [32] is not a valid month day in JANUARY, 2000"), is(true));
+	}
+
+
+	@Test
+	public void given_metrics_on_then_days_between_calls_are_timed() throws Exception {
+
+		final Date start = new Date("01 01 2000");
+		start.daysBetween(new Date("01 02 2000"));
+		start.daysBetween(start);
+
+		assertThat(metrics.getDaysBetweenCount(), is(equalTo(2L)));
+		assertThat(metrics.getDaysBetweenP99Nanos() <= metrics.getDaysBetweenMaxNanos(), is(true));
+	}
+
+
+	@Test
+	public void given_metrics_off_then_nothing_is_recorded() throws Exception {
+
+		DateMetrics.setRecording(false);
+		new Date("01 01 2000").daysBetween(new Date("02 01 2000"));
+		DateParser.tryParse("01 13 2000");
+
+		assertThat(metrics.getParsedCount(), is(equalTo(0L)));
+		assertThat(metrics.getRejectedCount(), is(equalTo(0L)));
+		assertThat(metrics.getDaysBetweenCount(), is(equalTo(0L)));
+	}
+
+
+	@Test
+	public void given_metrics_on_then_they_are_readable_from_the_platform_mbean_server() throws Exception {
+
+		new Date("01 01 2000");
+		DateParser.tryParse("01 13 2000");
+
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName name = new ObjectName(DateMetrics.OBJECT_NAME);
+
+		assertThat(server.isRegistered(name), is(true));
+		assertThat(server.getAttribute(name, "Enabled"), is(equalTo((Object) true)));
+		assertThat(server.getAttribute(name, "ParsedCount"), is(equalTo((Object) 1L)));
+		assertThat(server.getAttribute(name, "InvalidMonthCount"), is(equalTo((Object) 1L)));
+
+		assertThat(server.getAttribute(name, "CalendarTableFootprintBytes"), is(equalTo((Object) CalendarTable.getFootprintBytes())));
+		assertThat((Long) server.getAttribute(name, "CalendarTableBuildNanos") > 0, is(true));
+
+		server.invoke(name, "reset", new Object[0], new String[0]);
+		assertThat(metrics.getParsedCount(), is(equalTo(0L)));
+	}
+}
@@ -0,0 +1,70 @@
+package date.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LatencyHistogramTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_latencies_then_each_is_counted_in_its_power_of_2_bucket() throws Exception {
+
+		assertThat(LatencyHistogram.bucketFor(0), is(equalTo(0)));
+		assertThat(LatencyHistogram.bucketFor(1), is(equalTo(1)));
+		assertThat(LatencyHistogram.bucketFor(2), is(equalTo(2)));
+		assertThat(LatencyHistogram.bucketFor(3), is(equalTo(2)));
+		assertThat(LatencyHistogram.bucketFor(1024), is(equalTo(11)));
+		assertThat(LatencyHistogram.bucketFor(Long.MAX_VALUE), is(equalTo(63)));
+		assertThat(LatencyHistogram.upperBound(11), is(equalTo(2047L)));
+	}
+
+
+	@Test
+	public void given_recorded_latencies_then_the_count_mean_max_and_percentiles_are_reported() throws Exception {
+
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 99; i++) {
+			histogram.record(100);
+		}
+		histogram.record(10_000);
+
+		assertThat(histogram.getCount(), is(equalTo(100L)));
+		assertThat(histogram.getMeanNanos(), is(equalTo(199L)));
+		assertThat(histogram.getMaxNanos(), is(equalTo(10_000L)));
+		assertThat(histogram.getPercentileNanos(50), is(equalTo(127L)));
+		assertThat(histogram.getPercentileNanos(99), is(equalTo(127L)));
+		assertThat(histogram.getPercentileNanos(100), is(equalTo(10_000L)));
+	}
+
+
+	@Test
+	public void given_no_latencies_or_a_reset_then_everything_is_0() throws Exception {
+
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertThat(histogram.getPercentileNanos(99), is(equalTo(0L)));
+		assertThat(histogram.getMeanNanos(), is(equalTo(0L)));
+
+		histogram.record(500);
+		histogram.record(-1);
+		histogram.reset();
+
+		assertThat(histogram.getCount(), is(equalTo(0L)));
+		assertThat(histogram.getMaxNanos(), is(equalTo(0L)));
+	}
+
+
+	@Test
+	public void given_a_percentile_out_of_range_then_exception_thrown() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		new LatencyHistogram().getPercentileNanos(0);
+	}
+}
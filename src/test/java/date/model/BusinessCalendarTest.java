@@ -0,0 +1,125 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BusinessCalendarTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private final BusinessCalendar calendar = new BusinessCalendar(Arrays.asList(new Date("25 12 2000"), new Date("26 12 2000")));
+
+
+	@Test
+	public void given_a_week_with_holidays_then_only_the_business_days_are_counted() throws Exception {
+
+		assertThat(calendar.businessDaysBetween(new Date("22 12 2000"), new Date("29 12 2000")), is(equalTo(3L)));
+		assertThat(calendar.businessDaysBetween(new Date("18 12 2000"), new Date("25 12 2000")), is(equalTo(5L)));
+		assertThat(calendar.businessDaysBetween(new Date("23 12 2000"), new Date("25 12 2000")), is(equalTo(0L)));
+		assertThat(calendar.businessDaysBetween(new Date("22 12 2000"), new Date("22 12 2000")), is(equalTo(0L)));
+	}
+
+
+	@Test
+	public void given_a_date_then_is_business_day_excludes_weekends_and_holidays() throws Exception {
+
+		assertThat(calendar.isBusinessDay(new Date("22 12 2000")), is(true));
+		assertThat(calendar.isBusinessDay(new Date("23 12 2000")), is(false));
+		assertThat(calendar.isBusinessDay(new Date("25 12 2000")), is(false));
+		assertThat(calendar.isBusinessDay(new Date("27 12 2000")), is(true));
+	}
+
+
+	@Test
+	public void given_random_holidays_and_ranges_then_the_count_matches_a_walk_over_each_day() throws Exception {
+
+		final Random random = new Random(2010);
+		final int firstDay = new Date("01 01 1900").getEpochDay();
+		final int dayCount = new Date("31 12 2010").getEpochDay() - firstDay + 1;
+		final Set<Integer> holidays = new HashSet<>();
+		final List<Date> holidayDates = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			final int epochDay = firstDay + random.nextInt(dayCount);
+			holidays.add(epochDay);
+			holidayDates.add(Date.fromEpochDay(epochDay));
+		}
+		final Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+		final BusinessCalendar randomCalendar = new BusinessCalendar(YearRange.DEFAULT, weekend, holidayDates);
+
+		for (int query = 0; query < 300; query++) {
+			final int start = firstDay + random.nextInt(dayCount);
+			final int end = start + random.nextInt(firstDay + dayCount - start);
+
+			long expected = 0;
+			for (int epochDay = start; epochDay < end; epochDay++) {
+				if (!weekend.contains(DayOfWeek.fromEpochDay(epochDay)) && !holidays.contains(epochDay)) {
+					expected++;
+				}
+			}
+			assertThat(randomCalendar.businessDaysBetween(Date.fromEpochDay(start), Date.fromEpochDay(end)), is(equalTo(expected)));
+		}
+	}
+
+
+	@Test
+	public void given_the_full_year_range_then_business_days_can_be_counted_across_millennia() throws Exception {
+
+		final BusinessCalendar fullCalendar = new BusinessCalendar(YearRange.FULL, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), Collections.<Date>emptyList());
+		final Date start = new Date("03 01 0001", YearRange.FULL);
+		final Date end = start.plusDays(7 * 400000);
+		assertThat(fullCalendar.businessDaysBetween(start, end), is(equalTo(5L * 400000)));
+	}
+
+
+	@Test
+	public void given_the_day_after_the_calendar_range_as_the_end_date_then_the_last_day_is_counted() throws Exception {
+
+		final Date dayAfterRange = new Date("01 01 2011", YearRange.FULL);
+		assertThat(calendar.businessDaysBetween(new Date("31 12 2010"), dayAfterRange), is(equalTo(1L)));
+		assertThat(calendar.businessDaysBetween(new Date("27 12 2010"), dayAfterRange), is(equalTo(5L)));
+		assertThat(calendar.businessDaysBetween(new Date("01 01 1900"), dayAfterRange),
+				is(equalTo(calendar.businessDaysBetween(new Date("01 01 1900"), new Date("31 12 2010")) + 1)));
+	}
+
+
+	@Test
+	public void given_an_end_date_more_than_a_day_after_the_calendar_range_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(BusinessCalendar.DATE_OUTSIDE_CALENDAR_ERROR, "02 01 2011", YearRange.DEFAULT));
+		calendar.businessDaysBetween(new Date("31 12 2010"), new Date("02 01 2011", YearRange.FULL));
+	}
+
+
+	@Test
+	public void given_an_end_date_before_the_start_date_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(Date.START_DATE_GREATER_THAN_END_DATE_ERROR);
+		calendar.businessDaysBetween(new Date("29 12 2000"), new Date("22 12 2000"));
+	}
+
+
+	@Test
+	public void given_a_date_outside_the_calendar_range_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(BusinessCalendar.DATE_OUTSIDE_CALENDAR_ERROR, "01 01 2011", YearRange.DEFAULT));
+		calendar.isBusinessDay(new Date("01 01 2011", YearRange.FULL));
+	}
+}
@@ -0,0 +1,52 @@
+package date.model;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class CalendarTableTest {
+
+	@Test
+	public void given_every_month_in_the_full_range_then_the_days_and_epoch_day_of_the_first_match_year_month() throws Exception {
+
+		for (int year = 1; year <= 9999; year++) {
+			for (int month = 1; month <= 12; month++) {
+				final YearMonth yearMonth = YearMonth.of(year, month);
+				final long expectedEpochDay = yearMonth.atDay(1).toEpochDay() - LocalDate.of(0, 1, 1).toEpochDay();
+
+				assertThat(yearMonth.toString(), CalendarTable.getDaysInMonth(year, month), is(equalTo(yearMonth.lengthOfMonth())));
+				assertThat(yearMonth.toString(), (long) CalendarTable.getEpochDayOfFirst(year, month), is(equalTo(expectedEpochDay)));
+			}
+		}
+	}
+
+
+	@Test
+	public void given_a_day_month_year_combo_then_is_valid_day_in_month_checks_the_month_and_day() throws Exception {
+
+		assertThat(CalendarTable.isValidDayInMonth(2000, 2, 29), is(true));
+		assertThat(CalendarTable.isValidDayInMonth(1900, 2, 29), is(false));
+		assertThat(CalendarTable.isValidDayInMonth(2400, 2, 29), is(true));
+		assertThat(CalendarTable.isValidDayInMonth(2000, 13, 1), is(false));
+		assertThat(CalendarTable.isValidDayInMonth(2000, 0, 1), is(false));
+		assertThat(CalendarTable.isValidDayInMonth(2000, 12, 0), is(false));
+		assertThat(CalendarTable.isValidDayInMonth(2000, 12, 32), is(false));
+	}
+
+
+	@Test
+	public void given_the_default_range_then_the_table_is_under_4kb() throws Exception {
+
+		assertThat(CalendarTable.getFootprintBytes(), is(equalTo(((Year.DEFAULT_MAX_YEAR - Year.DEFAULT_MIN_YEAR + 1) * 12 + 1) * Character.BYTES)));
+		assertThat(CalendarTable.getFootprintBytes(), is(lessThanOrEqualTo(4096)));
+		assertThat(CalendarTable.getFootprintBytes(), is(lessThanOrEqualTo(CalendarTable.FOOTPRINT_BUDGET_BYTES)));
+		assertThat(CalendarTable.getBuildNanos(), is(greaterThan(0L)));
+	}
+}
@@ -0,0 +1,89 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateDifferenceTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_two_dates_then_the_difference_is_broken_down_into_years_months_and_days() throws Exception {
+
+		final DateDifference difference = DateDifference.between(new Date("28 12 1971"), new Date("31 03 2000"));
+		assertThat(difference.getYears(), is(equalTo(28)));
+		assertThat(difference.getMonths(), is(equalTo(3)));
+		assertThat(difference.getDays(), is(equalTo(3)));
+		assertThat(difference.getTotalMonths(), is(equalTo(28 * 12 + 3)));
+		assertThat(difference.getTotalDays(), is(equalTo(new Date("28 12 1971").daysBetween(new Date("31 03 2000")))));
+	}
+
+
+	@Test
+	public void given_a_start_day_after_the_end_of_a_shorter_month_then_the_day_is_clamped() throws Exception {
+
+		assertThat(DateDifference.between(new Date("31 01 2001"), new Date("28 02 2001")).toString(), is(equalTo("0 years, 1 months, 0 days (28 days)")));
+		assertThat(DateDifference.between(new Date("31 01 2001"), new Date("27 02 2001")).toString(), is(equalTo("0 years, 0 months, 27 days (27 days)")));
+		assertThat(DateDifference.between(new Date("31 01 2001"), new Date("01 03 2001")).toString(), is(equalTo("0 years, 1 months, 1 days (29 days)")));
+		assertThat(DateDifference.between(new Date("29 02 2000"), new Date("28 02 2001")).toString(), is(equalTo("1 years, 0 months, 0 days (365 days)")));
+	}
+
+
+	@Test
+	public void given_two_dates_then_the_fixed_length_periods_are_whole_counts() throws Exception {
+
+		final DateDifference difference = DateDifference.between(new Date("01 01 2000"), new Date("16 01 2000"));
+		assertThat(difference.getTotalWeeks(), is(equalTo(2L)));
+		assertThat(difference.getTotal(Period.DAY), is(equalTo(15L)));
+		assertThat(difference.getTotal(Period.HOUR), is(equalTo(15L * 24)));
+		assertThat(difference.getTotal(Period.YEAR), is(equalTo(0L)));
+	}
+
+
+	@Test
+	public void given_random_dates_then_the_months_match_stepping_month_by_month() throws Exception {
+
+		final Random random = new Random(1971);
+		for (int i = 0; i < 5000; i++) {
+			final LocalDate start = LocalDate.of(1900, 1, 1).plusDays(random.nextInt(40000));
+			final LocalDate end = start.plusDays(random.nextInt(1500));
+
+			//LocalDate.plusMonths clamps the day to the end of the month, the same as a monthly bill
+			int expectedMonths = 0;
+			while (!start.plusMonths(expectedMonths + 1).isAfter(end)) {
+				expectedMonths++;
+			}
+			final long expectedDays = ChronoUnit.DAYS.between(start.plusMonths(expectedMonths), end);
+
+			final DateDifference difference = DateDifference.between(toDate(start), toDate(end));
+			assertThat(start + " to " + end, difference.getTotalMonths(), is(equalTo(expectedMonths)));
+			assertThat(start + " to " + end, (long) difference.getDays(), is(equalTo(expectedDays)));
+		}
+	}
+
+
+	@Test
+	public void given_an_end_date_before_the_start_date_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(Date.START_DATE_GREATER_THAN_END_DATE_ERROR);
+		DateDifference.between(new Date("02 01 2000"), new Date("01 01 2000"));
+	}
+
+
+	private static Date toDate(final LocalDate day) {
+
+		return Date.of(day.getDayOfMonth(), day.getMonthValue(), day.getYear(), YearRange.FULL);
+	}
+}
@@ -0,0 +1,103 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateParseCacheTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_a_repeated_string_then_the_cached_date_is_returned() throws Exception {
+
+		final DateParseCache cache = new DateParseCache(16);
+		final Date xmas = cache.parse("25 12 2000");
+
+		assertThat(cache.parse("25 12 2000"), is(sameInstance(xmas)));
+		assertThat(xmas, is(equalTo(new Date("25 12 2000"))));
+		assertThat(cache.getHitCount(), is(equalTo(1L)));
+		assertThat(cache.getMissCount(), is(equalTo(1L)));
+		assertThat(cache.size(), is(equalTo(1)));
+	}
+
+
+	@Test
+	public void given_more_strings_than_the_maximum_size_then_the_least_recently_used_are_evicted() throws Exception {
+
+		final DateParseCache cache = new DateParseCache(2);
+		cache.parse("1 1 2000");
+		cache.parse("2 1 2000");
+		cache.parse("1 1 2000");
+		cache.parse("3 1 2000");
+
+		assertThat(cache.size(), is(equalTo(2)));
+		cache.parse("1 1 2000");
+		assertThat(cache.getHitCount(), is(equalTo(2L)));
+		cache.parse("2 1 2000");
+		assertThat(cache.getMissCount(), is(equalTo(4L)));
+	}
+
+
+	@Test
+	public void given_many_strings_then_the_size_never_exceeds_the_maximum() throws Exception {
+
+		final DateParseCache cache = new DateParseCache(100);
+		for (int day = 1; day <= 28; day++) {
+			for (int month = 1; month <= 12; month++) {
+				cache.parse(day + " " + month + " 1999");
+			}
+		}
+		assertThat(cache.size() <= cache.getMaximumSize(), is(true));
+		assertThat(cache.getMissCount(), is(equalTo(28L * 12)));
+	}
+
+
+	@Test
+	public void given_concurrent_parses_then_every_call_is_counted() throws Exception {
+
+		final DateParseCache cache = new DateParseCache(1024);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int thread = 0; thread < 4; thread++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 10000; i++) {
+					assertThat(cache.parse((i % 28 + 1) + " 02 2000").getDayOfMonth(), is(equalTo(i % 28 + 1)));
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+
+		assertThat(cache.getHitCount() + cache.getMissCount(), is(equalTo(40000L)));
+		assertThat(cache.size(), is(equalTo(28)));
+	}
+
+
+	@Test
+	public void given_an_invalid_string_then_the_same_exception_as_the_constructor_is_thrown() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(DayOfMonth.INVALID_DAY_OF_MONTH_ERROR, 30, Month.FEBRUARY.name(), "2000"));
+		new DateParseCache(16).parse("30 02 2000");
+	}
+
+
+	@Test
+	public void given_a_maximum_size_of_zero_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(DateParseCache.MAXIMUM_SIZE_ERROR, 0));
+		new DateParseCache(0);
+	}
+}
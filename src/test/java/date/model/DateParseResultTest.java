@@ -0,0 +1,52 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DateParseResultTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_an_invalid_result_when_getDate_is_called_then_throw_an_illegal_argument_exception_with_the_parse_message() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(DayOfMonth.INVALID_DAY_OF_MONTH_ERROR, 29, Month.FEBRUARY, 2001));
+		DateParser.tryParse("29 02 2001").getDate();
+	}
+
+
+	@Test
+	public void given_a_range_within_a_larger_string_then_the_message_only_refers_to_that_range() throws Exception {
+
+		final String pair = "25 12 2000, 26 13 2000";
+		assertThat(DateParser.tryParse(pair, 12, pair.length()).getMessage(), is(equalTo(String.format(Month.MONTH_PARAMETER_ERROR, "13"))));
+	}
+
+
+	@Test
+	public void given_every_error_then_its_code_is_negative_and_maps_back_to_the_error() throws Exception {
+
+		for (DateError error : DateError.values()) {
+			assertThat(error.name(), error.getCode() < 0, is(true));
+			assertThat(DateError.fromCode(error.getCode()), is(equalTo(error)));
+		}
+		assertThat(DateError.fromCode(20000101), is(nullValue()));
+	}
+
+
+	@Test
+	public void given_an_unknown_error_code_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		DateError.fromCode(-1000);
+	}
+}
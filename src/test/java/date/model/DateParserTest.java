@@ -0,0 +1,195 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.LocalDate;
+
+import static date.model.Month.*;
+import static date.model.matcher.DateMatcher.hasDayOfMonth;
+import static date.model.matcher.DateMatcher.hasMonth;
+import static date.model.matcher.DateMatcher.hasYear;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DateParserTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	/**
+	 * DRY - Utility method, uses the expectMessage matcher to ensure the
+	 * given exception is thrown with the correct message.
+	 *
+	 * @param invalidDateStr   invalid date str that will cause the exception
+	 * @param expectedErrorMsg expected error message that the exception will contain
+	 */
+	public void testParseWithExpectedExceptionAndMessage(final String invalidDateStr, final String expectedErrorMsg) {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(expectedErrorMsg);
+		DateParser.parse(invalidDateStr);
+	}
+
+
+	@Test
+	public void given_a_valid_date_string_then_the_day_month_and_year_are_parsed() throws Exception {
+
+		assertThat(DateParser.parse("1 1 1900"),   allOf(hasDayOfMonth(1),  hasMonth(JANUARY),  hasYear(1900)));
+		assertThat(DateParser.parse("29 02 2000"), allOf(hasDayOfMonth(29), hasMonth(FEBRUARY), hasYear(2000)));
+		assertThat(DateParser.parse("31 12 2010"), allOf(hasDayOfMonth(31), hasMonth(DECEMBER), hasYear(2010)));
+	}
+
+
+	@Test
+	public void given_separators_other_than_a_space_then_the_date_is_parsed_the_same_as_string_split() throws Exception {
+
+		assertThat(DateParser.parse("14\t11\t1971"), allOf(hasDayOfMonth(14), hasMonth(NOVEMBER), hasYear(1971)));
+		assertThat(DateParser.parse("14 11 1971 \r\n"), allOf(hasDayOfMonth(14), hasMonth(NOVEMBER), hasYear(1971)));
+		assertThat(DateParser.parse("+14 +11 +1971"), allOf(hasDayOfMonth(14), hasMonth(NOVEMBER), hasYear(1971)));
+		assertThat(DateParser.parse("0014 011 0001971"), allOf(hasDayOfMonth(14), hasMonth(NOVEMBER), hasYear(1971)));
+	}
+
+
+	@Test
+	public void given_a_range_within_a_larger_string_then_only_that_range_is_parsed() throws Exception {
+
+		final String pair = "25 12 2000, 26 12 2000";
+		assertThat(DateParser.parse(pair, 0, 10), allOf(hasDayOfMonth(25), hasMonth(DECEMBER), hasYear(2000)));
+		assertThat(DateParser.parse(pair, 12, pair.length()), allOf(hasDayOfMonth(26), hasMonth(DECEMBER), hasYear(2000)));
+	}
+
+
+	@Test
+	public void given_every_day_in_the_default_range_then_parse_is_equal_to_the_date_constructor() throws Exception {
+
+		final LocalDate end = LocalDate.of(Year.DEFAULT_MAX_YEAR + 1, 1, 1);
+		for (LocalDate day = LocalDate.of(Year.DEFAULT_MIN_YEAR, 1, 1); day.isBefore(end); day = day.plusDays(1)) {
+			final String dateStr = day.getDayOfMonth() + " " + day.getMonthValue() + " " + day.getYear();
+			final Date parsed = DateParser.parse(dateStr);
+			assertThat(parsed, allOf(hasDayOfMonth(day.getDayOfMonth()), hasMonth(Month.fromIndex(day.getMonthValue())), hasYear(day.getYear())));
+		}
+	}
+
+
+	@Test
+	public void given_a_leading_space_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage(" 1 1 1900", String.format(Date.DATE_STRING_HAS_INVALID_FORMAT_ERROR, " 1 1 1900"));
+	}
+
+
+	@Test
+	public void given_two_spaces_between_fields_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("1  1 1900", String.format(Date.DATE_STRING_HAS_INVALID_FORMAT_ERROR, "1  1 1900"));
+	}
+
+
+	@Test
+	public void given_an_empty_string_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("", String.format(Date.DATE_STRING_HAS_INVALID_FORMAT_ERROR, ""));
+	}
+
+
+	@Test
+	public void given_an_empty_day_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage(" 1 1900", DayOfMonth.DAY_OF_MONTH_BLANK_ERROR);
+	}
+
+
+	@Test
+	public void given_an_empty_month_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("1  1900", String.format(Month.MONTH_PARAMETER_ERROR, ""));
+	}
+
+
+	@Test
+	public void given_a_year_that_overflows_an_int_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("1 1 99999999999", String.format(Year.INVALID_YEAR_FORMAT_ERROR, "99999999999"));
+	}
+
+
+	@Test
+	public void given_a_year_out_of_range_then_throw_an_illegal_argument_exception() throws Exception {
+		final String expectedErrorMsg = String.format(Year.YEAR_RANGE_ERROR, 2011, Year.DEFAULT_MIN_YEAR, Year.DEFAULT_MAX_YEAR);
+		testParseWithExpectedExceptionAndMessage("1 1 2011", expectedErrorMsg);
+	}
+
+
+	@Test
+	public void given_a_zero_year_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("1 1 0000", Year.YEAR_NEGATIVE_OR_ZERO_ERROR);
+	}
+
+
+	@Test
+	public void given_a_negative_day_then_throw_an_illegal_argument_exception() throws Exception {
+		testParseWithExpectedExceptionAndMessage("-1 1 1900", DayOfMonth.DAY_OF_MONTH_IS_NEGATIVE_OR_ZERO_ERROR);
+	}
+
+
+	@Test
+	public void given_an_invalid_year_and_an_invalid_month_then_the_year_error_is_reported_first() throws Exception {
+		testParseWithExpectedExceptionAndMessage("blah blah blah", String.format(Year.INVALID_YEAR_FORMAT_ERROR, "blah"));
+	}
+
+
+	@Test
+	public void given_an_invalid_month_and_an_invalid_day_then_the_month_error_is_reported_first() throws Exception {
+		testParseWithExpectedExceptionAndMessage("blah 13 1900", String.format(Month.MONTH_PARAMETER_ERROR, "13"));
+	}
+
+
+	/** Exception free parse tests **/
+
+	@Test
+	public void given_a_valid_date_string_then_tryParse_returns_a_valid_result() throws Exception {
+
+		final DateParseResult result = DateParser.tryParse("29 02 2000");
+		assertThat(result.isValid(), is(true));
+		assertThat(result.getError(), is(nullValue()));
+		assertThat(result.getMessage(), is(nullValue()));
+		assertThat(result.getPackedDate(), is(equalTo(20000229)));
+		assertThat(result.getDate(), allOf(hasDayOfMonth(29), hasMonth(FEBRUARY), hasYear(2000)));
+	}
+
+
+	@Test
+	public void given_invalid_date_strings_then_tryParse_returns_the_error_and_the_same_message_as_the_date_constructor() throws Exception {
+
+		final Object[][] invalidDates = {
+				{"Hello World", DateError.INVALID_FORMAT},
+				{"", DateError.INVALID_FORMAT},
+				{"10 12 blah", DateError.INVALID_YEAR},
+				{"10 12 -1", DateError.YEAR_NEGATIVE_OR_ZERO},
+				{"10 12 2011", DateError.YEAR_OUT_OF_RANGE},
+				{"10 blah 1902", DateError.INVALID_MONTH},
+				{"10  1902", DateError.INVALID_MONTH},
+				{" 12 1902", DateError.BLANK_DAY},
+				{"blah 12 1902", DateError.DAY_NOT_A_NUMBER},
+				{"0 12 1902", DateError.DAY_NEGATIVE_OR_ZERO},
+				{"32 12 1902", DateError.INVALID_DAY_OF_MONTH},
+				{"29 02 2001", DateError.INVALID_DAY_OF_MONTH}
+		};
+
+		for (Object[] invalidDate : invalidDates) {
+			final String dateStr = (String) invalidDate[0];
+			final DateParseResult result = DateParser.tryParse(dateStr);
+
+			assertThat(dateStr, result.isValid(), is(false));
+			assertThat(dateStr, result.getError(), is(equalTo(invalidDate[1])));
+			assertThat(dateStr, DateParser.tryParsePacked(dateStr, 0, dateStr.length()), is(equalTo(result.getError().getCode())));
+			try {
+				new Date(dateStr);
+				fail("Expected an IllegalArgumentException for [" + dateStr + "]");
+			} catch (IllegalArgumentException iae) {
+				assertThat(dateStr, result.getMessage(), is(equalTo(iae.getMessage())));
+			}
+		}
+	}
+}
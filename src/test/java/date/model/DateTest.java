@@ -7,6 +7,9 @@ import org.junit.rules.ExpectedException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 
 import static date.model.Month.*;
@@ -17,6 +20,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 
 /**
@@ -199,6 +203,340 @@ public class DateTest {
 	}
 
 
+	@Test
+	public void given_a_date_then_appendTo_appends_the_same_string_as_toString() {
+
+		final StringBuilder sb = new StringBuilder("date: ");
+		assertThat(new Date("5 1 1990").appendTo(sb).toString(), is(equalTo("date: 05 01 1990")));
+	}
+
+
+	/** Date.daysBetween (bulk) tests **/
+	@Test
+	public void given_columns_of_epoch_days_then_the_days_between_each_pair_are_calculated() {
+
+		final int[] starts = new int[11];
+		final int[] ends = new int[11];
+		final int[] expected = new int[11];
+		for (int i = 0; i < starts.length; i++) {
+			final LocalDate start = LocalDate.of(1900, 1, 1).plusDays(i * 1237);
+			final LocalDate end = start.plusDays(i * 31 - 150);
+			starts[i] = new Date(String.format("%d %d %d", start.getDayOfMonth(), start.getMonthValue(), start.getYear())).getEpochDay();
+			ends[i] = starts[i] + i * 31 - 150;
+			expected[i] = (int) ChronoUnit.DAYS.between(start, end);
+		}
+
+		final int[] out = new int[11];
+		Date.daysBetween(starts, ends, out);
+		assertThat(out, is(equalTo(expected)));
+	}
+
+
+	@Test
+	public void given_an_anchor_day_then_the_days_to_each_end_day_are_calculated() {
+
+		final int anchor = new Date("25 12 2000").getEpochDay();
+		final int[] ends = {anchor, anchor + 1, anchor - 1, anchor + 365, anchor - 366, anchor + 7};
+		final int[] out = new int[ends.length];
+
+		Date.daysBetween(anchor, ends, out);
+		assertThat(out, is(equalTo(new int[]{0, 1, -1, 365, -366, 7})));
+	}
+
+
+	@Test
+	public void given_columns_of_different_lengths_then_bulk_days_between_throws_an_illegal_argument_exception() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(PackedDates.ARRAY_LENGTH_MISMATCH_ERROR, 2, 3));
+		Date.daysBetween(new int[2], new int[3], new int[2]);
+	}
+
+
+	/** Date.of and Date.parse tests **/
+	@Test
+	public void given_the_same_date_then_of_and_parse_return_the_same_instance() {
+
+		final Date xmas = Date.of(25, 12, 2000);
+		assertThat(Date.of(25, 12, 2000), is(sameInstance(xmas)));
+		assertThat(Date.parse("25 12 2000"), is(sameInstance(xmas)));
+		assertThat(DateParser.parse("25 12 2000"), is(sameInstance(xmas)));
+		assertThat(PackedDates.toDate(20001225), is(sameInstance(xmas)));
+		assertThat(xmas, is(equalTo(new Date("25 12 2000"))));
+	}
+
+
+	@Test
+	public void given_pooled_dates_then_the_fields_and_days_between_are_unchanged() {
+
+		assertThat(Date.of(1, 1, 1971).getYear(), is(equalTo(1971)));
+		assertThat(Date.of(1, 1, 1971).getDayOfMonth(), is(equalTo(1)));
+		assertThat(Date.of(28, 12, 1971).daysBetween(Date.of(1, 1, 1972)), is(equalTo(4L)));
+	}
+
+
+	@Test
+	public void given_an_invalid_day_then_of_throws_the_same_message_as_the_constructor() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(DayOfMonth.INVALID_DAY_OF_MONTH_ERROR, 29, FEBRUARY.name(), "2001"));
+		Date.of(29, 2, 2001);
+	}
+
+
+	@Test
+	public void given_a_year_out_of_range_then_of_throws_the_same_message_as_the_constructor() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Year.YEAR_RANGE_ERROR, 2011, Year.DEFAULT_MIN_YEAR, Year.DEFAULT_MAX_YEAR));
+		Date.of(1, 1, 2011);
+	}
+
+
+	@Test
+	public void given_an_invalid_month_then_of_throws_the_same_message_as_the_constructor() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Month.MONTH_PARAMETER_ERROR, 13));
+		Date.of(1, 13, 2000);
+	}
+
+
+	@Test
+	public void given_dates_with_the_same_fields_but_different_year_ranges_then_they_are_equal() {
+
+		final Year year = new Year(2000, 1000, 3000);
+		final Date date = new Date(year, DECEMBER, new DayOfMonth(25, DECEMBER, year));
+		assertThat(date, is(equalTo(new Date("25 12 2000"))));
+		assertThat(date.compareTo(new Date("25 12 2000")), is(equalTo(0)));
+		assertThat(date.toString(), is(equalTo("25 12 2000")));
+	}
+
+
+	/** Year range tests **/
+	@Test
+	public void given_the_full_year_range_then_historical_and_future_dates_can_be_parsed() {
+
+		final Date first = new Date("01 01 0001", YearRange.FULL);
+		final Date last = new Date("31 12 9999", YearRange.FULL);
+
+		assertThat(first.toString(), is(equalTo("01 01 0001")));
+		assertThat(last.toString(), is(equalTo("31 12 9999")));
+		assertThat(first.getYearRange(), is(sameInstance(YearRange.FULL)));
+		assertThat(first.daysBetween(last), is(equalTo(ChronoUnit.DAYS.between(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)))));
+	}
+
+
+	@Test
+	public void given_a_custom_year_range_then_the_range_error_contains_the_custom_range() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Year.YEAR_RANGE_ERROR, 1799, 1800, 1899));
+		new Date("01 01 1799", YearRange.of(1800, 1899));
+	}
+
+
+	@Test
+	public void given_a_custom_year_range_then_parse_and_of_use_the_range() {
+
+		final YearRange range = YearRange.of(1800, 1899);
+		assertThat(Date.parse("25 12 1850", range), is(equalTo(Date.of(25, 12, 1850, range))));
+		assertThat(Date.parse("25 12 1850", range).getYearRange(), is(sameInstance(range)));
+		assertThat(DateParser.tryParse("25 12 1850", range).getDate(), is(equalTo(new Date("25 12 1850", range))));
+		assertThat(DateParser.tryParse("25 12 1850").getError(), is(equalTo(DateError.YEAR_OUT_OF_RANGE)));
+	}
+
+
+	@Test
+	public void given_a_date_outside_a_custom_range_then_of_throws_the_custom_range_error() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Year.YEAR_RANGE_ERROR, 2000, 1800, 1899));
+		Date.of(1, 1, 2000, YearRange.of(1800, 1899));
+	}
+
+
+	@Test
+	public void given_a_date_outside_a_custom_range_then_try_parse_returns_the_custom_range_error() {
+
+		final DateParseResult result = DateParser.tryParse("01 01 2000", YearRange.of(1800, 1899));
+		assertThat(result.getError(), is(equalTo(DateError.YEAR_OUT_OF_RANGE)));
+		assertThat(result.getMessage(), is(equalTo(String.format(Year.YEAR_RANGE_ERROR, 2000, 1800, 1899))));
+	}
+
+
+	/** Date.plusDays, minusDays and fromEpochDay tests **/
+	@Test
+	public void given_every_date_in_the_default_range_then_from_epoch_day_round_trips() {
+
+		for (LocalDate day = LocalDate.of(1900, 1, 1); day.getYear() <= 2010; day = day.plusDays(1)) {
+			final Date date = Date.of(day.getDayOfMonth(), day.getMonthValue(), day.getYear());
+			assertThat(Date.fromEpochDay(date.getEpochDay()), is(sameInstance(date)));
+		}
+	}
+
+
+	@Test
+	public void given_a_count_of_days_then_plus_days_matches_local_date() {
+
+		final LocalDate start = LocalDate.of(1971, 12, 28);
+		final Date date = new Date("28 12 1971");
+		for (int days = -25000; days <= 14000; days += 97) {
+			final LocalDate expected = start.plusDays(days);
+			assertThat(date.plusDays(days), is(equalTo(Date.of(expected.getDayOfMonth(), expected.getMonthValue(), expected.getYear()))));
+			assertThat(date.minusDays(-days), is(equalTo(date.plusDays(days))));
+		}
+	}
+
+
+	@Test
+	public void given_days_across_a_leap_day_then_plus_days_lands_on_the_right_date() {
+
+		assertThat(new Date("28 02 2000").plusDays(1), is(equalTo(new Date("29 02 2000"))));
+		assertThat(new Date("28 02 2000").plusDays(2), is(equalTo(new Date("01 03 2000"))));
+		assertThat(new Date("28 02 1900").plusDays(1), is(equalTo(new Date("01 03 1900"))));
+		assertThat(new Date("01 01 2001").minusDays(1), is(equalTo(new Date("31 12 2000"))));
+	}
+
+
+	@Test
+	public void given_a_wide_year_range_then_plus_days_keeps_the_range() {
+
+		final Date date = new Date("31 12 2010", YearRange.FULL).plusDays(1);
+		assertThat(date.toString(), is(equalTo("01 01 2011")));
+		assertThat(date.getYearRange(), is(sameInstance(YearRange.FULL)));
+	}
+
+
+	@Test
+	public void given_a_result_after_the_year_range_then_plus_days_throws_an_illegal_argument_exception() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Date.EPOCH_DAY_OUT_OF_RANGE_ERROR, new Date("31 12 2010").getEpochDay() + 1, YearRange.DEFAULT));
+		new Date("31 12 2010").plusDays(1);
+	}
+
+
+	@Test
+	public void given_a_huge_count_of_days_then_plus_and_minus_days_throw_an_illegal_argument_exception() {
+
+		for (long days : new long[]{Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+			try {
+				new Date("01 01 2000", YearRange.FULL).plusDays(days);
+				fail("plusDays(" + days + ") should have thrown");
+			} catch (IllegalArgumentException expected) {
+				//expected
+			}
+			try {
+				new Date("01 01 2000", YearRange.FULL).minusDays(days);
+				fail("minusDays(" + days + ") should have thrown");
+			} catch (IllegalArgumentException expected) {
+				//expected
+			}
+		}
+	}
+
+
+	@Test
+	public void given_an_epoch_day_before_the_year_range_then_from_epoch_day_throws_an_illegal_argument_exception() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Date.EPOCH_DAY_OUT_OF_RANGE_ERROR, -1, YearRange.FULL));
+		Date.fromEpochDay(-1, YearRange.FULL);
+	}
+
+
+	/** Date.range tests **/
+	@Test
+	public void given_a_start_and_end_date_then_range_streams_each_date_excluding_the_end() {
+
+		final Object[] dates = Date.range(new Date("27 02 2000"), new Date("02 03 2000")).toArray();
+		assertThat(dates, is(equalTo(new Object[]{
+				new Date("27 02 2000"), new Date("28 02 2000"), new Date("29 02 2000"), new Date("01 03 2000")})));
+	}
+
+
+	@Test
+	public void given_an_end_date_that_is_not_after_the_start_then_range_is_empty() {
+
+		assertThat(Date.range(new Date("02 03 2000"), new Date("02 03 2000")).count(), is(equalTo(0L)));
+		assertThat(Date.range(new Date("02 03 2000"), new Date("01 03 2000")).count(), is(equalTo(0L)));
+	}
+
+
+	@Test
+	public void given_a_weekly_step_then_range_streams_every_7th_date() {
+
+		final Object[] dates = Date.range(new Date("01 01 2000"), new Date("22 01 2000"), Period.WEEK).toArray();
+		assertThat(dates, is(equalTo(new Object[]{new Date("01 01 2000"), new Date("08 01 2000"), new Date("15 01 2000")})));
+		assertThat(Date.range(new Date("01 01 2000"), new Date("23 01 2000"), Period.WEEK).count(), is(equalTo(4L)));
+	}
+
+
+	@Test
+	public void given_the_default_range_then_a_parallel_range_matches_the_sequential_range() {
+
+		final Date start = new Date("01 01 1900");
+		final Date end = new Date("31 12 2010");
+		final long days = start.daysBetween(end);
+
+		assertThat(Date.range(start, end).parallel().count(), is(equalTo(days)));
+		assertThat(Date.range(start, end).parallel().mapToLong(Date::getEpochDay).sum(),
+				is(equalTo(Date.range(start, end).mapToLong(Date::getEpochDay).sum())));
+		assertThat(Date.range(start, end).parallel().filter(date -> date.getDayOfMonth() == 29 && date.getMonth() == FEBRUARY).count(), is(equalTo(27L)));
+	}
+
+
+	@Test
+	public void given_a_range_spliterator_then_it_is_sized_and_splits_at_the_midpoint() {
+
+		final Spliterator<Date> spliterator = Date.range(new Date("01 01 2000"), new Date("11 01 2000")).spliterator();
+		assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), is(true));
+		assertThat(spliterator.getExactSizeIfKnown(), is(equalTo(10L)));
+
+		final Spliterator<Date> firstHalf = spliterator.trySplit();
+		assertThat(firstHalf.getExactSizeIfKnown(), is(equalTo(5L)));
+		assertThat(spliterator.getExactSizeIfKnown(), is(equalTo(5L)));
+		firstHalf.tryAdvance(date -> assertThat(date, is(equalTo(new Date("01 01 2000")))));
+		spliterator.tryAdvance(date -> assertThat(date, is(equalTo(new Date("06 01 2000")))));
+	}
+
+
+	@Test
+	public void given_a_step_that_is_not_a_whole_number_of_days_then_range_throws_an_illegal_argument_exception() {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Date.PERIOD_NOT_IN_WHOLE_DAYS_ERROR, Period.HOUR));
+		Date.range(new Date("01 01 2000"), new Date("02 01 2000"), Period.HOUR);
+	}
+
+
+	@Test
+	public void given_an_end_date_outside_the_start_dates_year_range_then_range_throws_an_illegal_argument_exception() {
+
+		thrown.expect(IllegalArgumentException.class);
+		Date.range(new Date("01 01 2000"), new Date("02 01 2011", YearRange.FULL));
+	}
+
+
+	/** Date.hashCode tests **/
+	@Test
+	public void given_equal_dates_then_the_hash_codes_are_equal() {
+
+		assertThat(new Date("25 12 2000").hashCode(), is(equalTo(new Date("25 12 2000").hashCode())));
+		assertThat(new Date("25 12 2000").hashCode(), is(equalTo(new Date("25 12 2000").getEpochDay())));
+	}
+
+
+	@Test
+	public void given_dates_as_hash_set_keys_then_equal_dates_are_only_stored_once() {
+
+		final Set<Date> dates = new HashSet<>(Arrays.asList(new Date("25 12 2000"), new Date("25 12 2000"), new Date("26 12 2000")));
+		assertThat(dates.size(), is(equalTo(2)));
+		assertThat(dates.contains(new Date("26 12 2000")), is(true));
+	}
+
+
 	/** Date.validateEndDate tests **/
 	@Test
 	public void given_a_date_when_an_invalid_date_is_compared_then_throw_IllegalArgumentException() throws Exception {
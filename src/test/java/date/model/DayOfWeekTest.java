@@ -0,0 +1,41 @@
+package date.model;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DayOfWeekTest {
+
+	@Test
+	public void given_every_day_in_the_full_range_then_the_day_of_week_matches_local_date() throws Exception {
+
+		for (LocalDate day = LocalDate.of(1, 1, 1); day.getYear() <= 9999; day = day.plusDays(1)) {
+			final int epochDay = EpochDay.of(day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+			assertThat(day.toString(), DayOfWeek.fromEpochDay(epochDay).name(), is(equalTo(day.getDayOfWeek().name())));
+		}
+	}
+
+
+	@Test
+	public void given_a_date_then_get_day_of_week_returns_the_day() throws Exception {
+
+		assertThat(new Date("01 01 1900").getDayOfWeek(), is(equalTo(DayOfWeek.MONDAY)));
+		assertThat(new Date("25 12 2000").getDayOfWeek(), is(equalTo(DayOfWeek.MONDAY)));
+		assertThat(new Date("28 12 1971").getDayOfWeek(), is(equalTo(DayOfWeek.TUESDAY)));
+		assertThat(DayOfWeek.fromEpochDay(0), is(equalTo(DayOfWeek.SATURDAY)));
+		assertThat(DayOfWeek.fromEpochDay(-1), is(equalTo(DayOfWeek.FRIDAY)));
+	}
+
+
+	@Test
+	public void given_saturday_and_sunday_then_they_are_the_weekend() throws Exception {
+
+		assertThat(DayOfWeek.SATURDAY.isWeekend(), is(true));
+		assertThat(DayOfWeek.SUNDAY.isWeekend(), is(true));
+		assertThat(DayOfWeek.FRIDAY.isWeekend(), is(false));
+	}
+}
@@ -0,0 +1,72 @@
+package date.model;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class EpochDayTest {
+
+	private static final LocalDate EPOCH = LocalDate.of(0, 1, 1);
+
+
+	@Test
+	public void given_the_epoch_then_epoch_day_is_zero() throws Exception {
+		assertThat(EpochDay.of(0, 1, 1), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_the_1st_of_january_1900_then_epoch_day_matches_the_java8_date_api() throws Exception {
+		assertThat(EpochDay.of(1900, 1, 1), is(equalTo(693961)));
+		assertThat((long) EpochDay.of(1900, 1, 1), is(equalTo(ChronoUnit.DAYS.between(EPOCH, LocalDate.of(1900, 1, 1)))));
+	}
+
+
+	@Test
+	public void given_every_day_from_year_1_to_year_9999_then_epoch_day_matches_the_java8_date_api() throws Exception {
+
+		//Step through the calendar, using the Java 8 Date api (ONLY IN THE TEST CASES :)
+		final LocalDate end = LocalDate.of(10000, 1, 1);
+		for (LocalDate day = LocalDate.of(1, 1, 1); day.isBefore(end); day = day.plusDays(1)) {
+			final long expected = ChronoUnit.DAYS.between(EPOCH, day);
+			final String errorMsg = "Unexpected epoch day for " + day;
+			assertThat(errorMsg, (long) EpochDay.of(day.getYear(), day.getMonthValue(), day.getDayOfMonth()), is(equalTo(expected)));
+		}
+	}
+
+
+	@Test
+	public void given_every_epoch_day_from_year_0_to_year_9999_then_toPackedDate_matches_the_java8_date_api() throws Exception {
+
+		final int lastEpochDay = (int) ChronoUnit.DAYS.between(EPOCH, LocalDate.of(9999, 12, 31));
+		LocalDate day = EPOCH;
+		for (int epochDay = 0; epochDay <= lastEpochDay; epochDay++, day = day.plusDays(1)) {
+			final int expected = day.getYear() * 10000 + day.getMonthValue() * 100 + day.getDayOfMonth();
+			assertThat("Unexpected date for epoch day " + epochDay, EpochDay.toPackedDate(epochDay), is(equalTo(expected)));
+		}
+	}
+
+
+	@Test
+	public void given_a_year_then_days_before_year_is_the_sum_of_the_days_in_each_prior_year() throws Exception {
+
+		long expected = 0;
+		for (int year = 0; year <= 2400; year++) {
+			assertThat("Unexpected days before year " + year, (long) EpochDay.daysBeforeYear(year), is(equalTo(expected)));
+			expected += Year.isLeapYear(year) ? 366 : 365;
+		}
+	}
+
+
+	@Test
+	public void given_march_then_days_before_month_includes_the_leap_day_only_in_leap_years() throws Exception {
+		assertThat(EpochDay.daysBeforeMonth(Month.MARCH.getAsNumber(), false), is(equalTo(59)));
+		assertThat(EpochDay.daysBeforeMonth(Month.MARCH.getAsNumber(), true), is(equalTo(60)));
+		assertThat(EpochDay.daysBeforeMonth(Month.JANUARY.getAsNumber(), true), is(equalTo(0)));
+	}
+}
@@ -176,6 +176,49 @@ public class MonthTest {
 	}
 
 
+	@Test
+	public void testGetNextMonth() throws Exception {
+		assertTrue(JANUARY.getNextMonth() == FEBRUARY);
+		assertTrue(DECEMBER.getNextMonth() == JANUARY);
+	}
+
+
+	@Test
+	public void given_valid_month_numbers_then_fromIndex_returns_the_same_month_as_fromIndexString() throws Exception {
+
+		for (Month month : Month.values()) {
+			assertTrue(month == Month.fromIndex(month.getAsNumber()));
+			assertTrue(month == Month.fromIndexString(String.valueOf(month.getAsNumber())));
+		}
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_Out_Of_Bounds_Month_Number_Then_fromIndex_Throws_IllegalArgumentException() throws Exception {
+		Month.fromIndex(13);
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void given_Zero_Month_Number_Then_fromIndex_Throws_IllegalArgumentException() throws Exception {
+		Month.fromIndex(0);
+	}
+
+
+	@Test
+	public void given_a_month_then_the_days_before_it_are_the_sum_of_the_days_in_the_previous_months() throws Exception {
+
+		for (boolean isLeapYear : new boolean[]{false, true}) {
+			int expectedDays = 0;
+			for (Month month : Month.values()) {
+				assertThat(month.name(), month.getDaysBefore(isLeapYear), is(equalTo(expectedDays)));
+				assertThat(month.name(), month.getTotalSecondsBefore(isLeapYear), is(equalTo(expectedDays * DAY.getSeconds())));
+				expectedDays += month.getDaysInMonth(isLeapYear);
+			}
+		}
+	}
+
+
 
 
 }
\ No newline at end of file
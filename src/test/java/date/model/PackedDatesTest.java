@@ -0,0 +1,123 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static date.model.Month.DECEMBER;
+import static date.model.matcher.DateMatcher.hasDayOfMonth;
+import static date.model.matcher.DateMatcher.hasMonth;
+import static date.model.matcher.DateMatcher.hasYear;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PackedDatesTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_fields_packed_into_an_int_then_they_can_be_unpacked() throws Exception {
+
+		final int packed = PackedDates.pack(2000, 12, 25);
+		assertThat(packed, is(equalTo(20001225)));
+		assertThat(PackedDates.getYear(packed), is(equalTo(2000)));
+		assertThat(PackedDates.getMonth(packed), is(equalTo(12)));
+		assertThat(PackedDates.getDayOfMonth(packed), is(equalTo(25)));
+	}
+
+
+	@Test
+	public void given_a_date_then_pack_and_toDate_round_trip() throws Exception {
+
+		final int packed = PackedDates.pack(new Date("25 12 2000"));
+		assertThat(PackedDates.toDate(packed), allOf(hasDayOfMonth(25), hasMonth(DECEMBER), hasYear(2000)));
+	}
+
+
+	@Test
+	public void given_an_invalid_packed_date_then_toDate_throws_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		PackedDates.toDate(20010229);
+	}
+
+
+	@Test
+	public void given_packed_dates_then_isValid_uses_the_same_rules_as_date() throws Exception {
+
+		assertThat(PackedDates.isValid(20000229), is(true));
+		assertThat(PackedDates.isValid(19000101), is(true));
+		assertThat(PackedDates.isValid(20101231), is(true));
+		assertThat(PackedDates.isValid(20010229), is(false));
+		assertThat(PackedDates.isValid(19000229), is(false));
+		assertThat(PackedDates.isValid(18991231), is(false));
+		assertThat(PackedDates.isValid(20110101), is(false));
+		assertThat(PackedDates.isValid(20001301), is(false));
+		assertThat(PackedDates.isValid(20000100), is(false));
+		assertThat(PackedDates.isValid(-20000101), is(false));
+	}
+
+
+	@Test
+	public void given_an_array_of_packed_dates_then_validate_flags_each_date() throws Exception {
+
+		final int[] packedDates = {20000229, 20010229, 19710101};
+		final boolean[] valid = new boolean[packedDates.length];
+		assertThat(PackedDates.validate(packedDates, valid), is(equalTo(2)));
+		assertThat(valid[0], is(true));
+		assertThat(valid[1], is(false));
+		assertThat(valid[2], is(true));
+	}
+
+
+	@Test
+	public void given_packed_dates_then_compare_returns_the_same_as_date_compareTo() throws Exception {
+
+		assertThat(PackedDates.compare(19991231, 20000101), is(equalTo(new Date("31 12 1999").compareTo(new Date("1 1 2000")))));
+		assertThat(PackedDates.compare(20000101, 19991231), is(equalTo(1)));
+		assertThat(PackedDates.compare(20000101, 20000101), is(equalTo(0)));
+	}
+
+
+	@Test
+	public void given_every_day_in_the_default_range_then_the_epoch_day_round_trips_and_matches_date() throws Exception {
+
+		final LocalDate end = LocalDate.of(Year.DEFAULT_MAX_YEAR + 1, 1, 1);
+		for (LocalDate day = LocalDate.of(Year.DEFAULT_MIN_YEAR, 1, 1); day.isBefore(end); day = day.plusDays(1)) {
+			final int packed = PackedDates.pack(day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+			final int epochDay = PackedDates.toEpochDay(packed);
+			assertThat(epochDay, is(equalTo(PackedDates.toDate(packed).getEpochDay())));
+			assertThat(PackedDates.fromEpochDay(epochDay), is(equalTo(packed)));
+		}
+	}
+
+
+	@Test
+	public void given_arrays_of_packed_dates_then_daysBetween_matches_the_java8_date_api() throws Exception {
+
+		final int[] starts = {19000101, 20001225, 20001226};
+		final int[] ends = {20101231, 20001226, 20001225};
+		final long[] daysBetween = new long[starts.length];
+		PackedDates.daysBetween(starts, ends, daysBetween);
+
+		assertThat(daysBetween[0], is(equalTo(ChronoUnit.DAYS.between(LocalDate.of(1900, 1, 1), LocalDate.of(2010, 12, 31)))));
+		assertThat(daysBetween[1], is(equalTo(1L)));
+		assertThat(daysBetween[2], is(equalTo(-1L)));
+	}
+
+
+	@Test
+	public void given_arrays_of_different_lengths_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(PackedDates.ARRAY_LENGTH_MISMATCH_ERROR, 2, 1));
+		PackedDates.toEpochDays(new int[2], new int[1]);
+	}
+}
@@ -0,0 +1,98 @@
+package date.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class YearRangeTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+
+	@Test
+	public void given_the_default_min_and_max_years_then_the_shared_default_range_is_returned() throws Exception {
+
+		assertThat(YearRange.of(Year.DEFAULT_MIN_YEAR, Year.DEFAULT_MAX_YEAR), is(sameInstance(YearRange.DEFAULT)));
+		assertThat(new Year(2000).getRange(), is(sameInstance(YearRange.DEFAULT)));
+		assertThat(new Year(2000, Year.DEFAULT_MIN_YEAR, Year.DEFAULT_MAX_YEAR).getRange(), is(sameInstance(YearRange.DEFAULT)));
+	}
+
+
+	@Test
+	public void given_years_1_to_9999_then_the_shared_full_range_is_returned() throws Exception {
+
+		assertThat(YearRange.of(1, YearRange.MAX_SUPPORTED_YEAR), is(sameInstance(YearRange.FULL)));
+	}
+
+
+	@Test
+	public void given_a_max_year_after_9999_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(String.format(Year.YEAR_RANGE_TOO_WIDE_ERROR, 10000, YearRange.MAX_SUPPORTED_YEAR));
+		YearRange.of(1, 10000);
+	}
+
+
+	@Test
+	public void given_a_range_then_contains_includes_both_ends() throws Exception {
+
+		final YearRange range = YearRange.of(2000, 3000);
+		assertThat(range.contains(2000), is(true));
+		assertThat(range.contains(3000), is(true));
+		assertThat(range.contains(1999), is(false));
+		assertThat(range.contains(3001), is(false));
+	}
+
+
+	@Test
+	public void given_a_range_then_contains_epoch_day_includes_the_first_and_last_day() throws Exception {
+
+		final YearRange range = YearRange.of(2000, 3000);
+		assertThat(range.containsEpochDay(EpochDay.of(2000, 1, 1)), is(true));
+		assertThat(range.containsEpochDay(EpochDay.of(3000, 12, 31)), is(true));
+		assertThat(range.containsEpochDay(EpochDay.of(1999, 12, 31)), is(false));
+		assertThat(range.containsEpochDay(EpochDay.of(3000, 12, 31) + 1L), is(false));
+	}
+
+
+	@Test
+	public void given_ranges_with_the_same_min_and_max_years_then_they_are_equal() throws Exception {
+
+		assertThat(YearRange.of(2000, 3000), is(equalTo(YearRange.of(2000, 3000))));
+		assertThat(YearRange.of(2000, 3000).hashCode(), is(equalTo(YearRange.of(2000, 3000).hashCode())));
+	}
+
+
+	@Test
+	public void given_a_min_year_after_the_max_year_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(equalTo(String.format(Year.MIN_YEAR_GREATER_THAN_MAX_YEAR_ERROR, 3000, 2000)));
+		YearRange.of(3000, 2000);
+	}
+
+
+	@Test
+	public void given_a_small_min_year_after_the_max_year_then_the_message_is_only_the_min_max_error() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(equalTo("The minimum year parameter, 5, must be lower than the maximum year parameter, 3"));
+		YearRange.of(5, 3);
+	}
+
+
+	@Test
+	public void given_a_min_year_of_zero_then_throw_an_illegal_argument_exception() throws Exception {
+
+		thrown.expect(IllegalArgumentException.class);
+		thrown.expectMessage(equalTo(Year.YEAR_RANGE_NEGATIVE_OR_ZERO_ERROR));
+		YearRange.of(0, 2000);
+	}
+}
@@ -97,8 +97,8 @@ public class YearTest {
 		final int yearRangeUpper = 3000;
 
 		Year year = new Year(LEAP_YEAR, yearRangeLower, yearRangeUpper);
-		assertThat(year.minYear, is(equalTo(yearRangeLower)));
-		assertThat(year.maxYear, is(equalTo(yearRangeUpper)));
+		assertThat(year.getMinYear(), is(equalTo(yearRangeLower)));
+		assertThat(year.getMaxYear(), is(equalTo(yearRangeUpper)));
 	}
 
 
@@ -109,8 +109,8 @@ public class YearTest {
 		final int yearRangeUpper = 3000;
 
 		Year year = new Year("" + LEAP_YEAR, yearRangeLower, yearRangeUpper); //force string constructor
-		assertThat(year.minYear, is(equalTo(yearRangeLower)));
-		assertThat(year.maxYear, is(equalTo(yearRangeUpper)));
+		assertThat(year.getMinYear(), is(equalTo(yearRangeLower)));
+		assertThat(year.getMaxYear(), is(equalTo(yearRangeUpper)));
 	}
 
 
@@ -118,8 +118,8 @@ public class YearTest {
 	public void given_no_value_for_year_ranges_then_ensure_default_values_are_set() throws Exception {
 
 		Year year = new Year(LEAP_YEAR);
-		assertThat(year.minYear, is(equalTo(Year.DEFAULT_MIN_YEAR)));
-		assertThat(year.maxYear, is(equalTo(Year.DEFAULT_MAX_YEAR)));
+		assertThat(year.getMinYear(), is(equalTo(Year.DEFAULT_MIN_YEAR)));
+		assertThat(year.getMaxYear(), is(equalTo(Year.DEFAULT_MAX_YEAR)));
 	}
 
 
@@ -127,8 +127,8 @@ public class YearTest {
 	public void given_no_value_for_year_ranges_then_ensure_default_values_are_set_when_string_constructor_is_used() throws Exception {
 
 		Year year = new Year("" + LEAP_YEAR); //Force String Constructor
-		assertThat(year.minYear, is(equalTo(Year.DEFAULT_MIN_YEAR)));
-		assertThat(year.maxYear, is(equalTo(Year.DEFAULT_MAX_YEAR)));
+		assertThat(year.getMinYear(), is(equalTo(Year.DEFAULT_MIN_YEAR)));
+		assertThat(year.getMaxYear(), is(equalTo(Year.DEFAULT_MAX_YEAR)));
 	}
 
 
@@ -213,6 +213,22 @@ public class YearTest {
 	}
 
 
+	@Test
+	public void given_a_year_then_the_total_seconds_since_the_epoch_is_the_sum_of_the_seconds_in_each_prior_year() throws Exception {
+
+		long expectedSeconds = 0;
+		for (int i = 0; i < Year.DEFAULT_MIN_YEAR; i++) {
+			expectedSeconds += Year.getSecondsInYear(i);
+		}
+
+		for (int i = Year.DEFAULT_MIN_YEAR; i <= Year.DEFAULT_MAX_YEAR; i++) {
+			final String errorMsg = "Unexpected total seconds for [" + i + "]";
+			assertThat(errorMsg, new Year(i).getTotalSecondsSinceEpoch(), is(equalTo(expectedSeconds)));
+			expectedSeconds += Year.getSecondsInYear(i);
+		}
+	}
+
+
 //	@Test
 //	public void given_a_year_then_get_the_total_seconds_since_the_epoch() throws Exception {
 //